@@ -12,7 +12,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Holder;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -38,7 +37,6 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
-import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.SnowLayerBlock;
@@ -67,7 +65,6 @@ import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.server.ServerLifecycleHooks;
 
-import com.mojang.datafixers.util.Pair;
 import net.dries007.tfc.common.TFCEffects;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blockentities.*;
@@ -91,6 +88,7 @@ import net.dries007.tfc.common.capabilities.player.PlayerDataCapability;
 import net.dries007.tfc.common.capabilities.size.ItemSizeManager;
 import net.dries007.tfc.common.commands.TFCCommands;
 import net.dries007.tfc.common.entities.Fauna;
+import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
@@ -100,11 +98,12 @@ import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.events.StartFireEvent;
+import net.dries007.tfc.util.tracker.IWorldTracker;
+import net.dries007.tfc.util.tracker.TrackedBlockFlags;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
-import net.dries007.tfc.world.NoopClimateSampler;
 import net.dries007.tfc.world.biome.BiomeSourceExtension;
-import net.dries007.tfc.world.biome.TFCBiomes;
+import net.dries007.tfc.world.biome.BiomeVariants;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ChunkDataCache;
 import net.dries007.tfc.world.chunkdata.ChunkDataCapability;
@@ -160,6 +159,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onPlayerRightClickEmpty);
         bus.addListener(ForgeEventHandler::onDataPackSync);
         bus.addListener(ForgeEventHandler::onBoneMeal);
+        bus.addListener(ForgeEventHandler::onTagsUpdated);
     }
 
     /**
@@ -175,18 +175,14 @@ public final class ForgeEventHandler
             final BiomeSourceExtension source = extension.getBiomeSource();
             final Random random = new Random(level.getSeed());
 
-            Pair<BlockPos, Holder<Biome>> posPair = generator.getBiomeSource().findBiomeHorizontal(source.getSpawnCenterX(), 0, source.getSpawnCenterZ(), source.getSpawnDistance(), source.getSpawnDistance() / 256, biome -> TFCBiomes.getExtensionOrThrow(level, biome.value()).variants().isSpawnable(), random, false, NoopClimateSampler.INSTANCE);
-            BlockPos pos;
+            // Spawnable is a property of the biome variants, so this can skip the climate, and the chunk data lookup that would require
+            BlockPos pos = source.findBiomeIgnoreClimate(source.getSpawnCenterX(), 0, source.getSpawnCenterZ(), source.getSpawnDistance(), source.getSpawnDistance() / 256, BiomeVariants::isSpawnable, random);
             ChunkPos chunkPos;
-            if (posPair == null)
+            if (pos == null)
             {
                 LOGGER.warn("Unable to find spawn biome!");
                 pos = new BlockPos(0, generator.getSeaLevel(), 0);
             }
-            else
-            {
-                pos = posPair.getFirst();
-            }
             chunkPos = new ChunkPos(pos);
 
             settings.setSpawn(chunkPos.getWorldPosition().offset(8, generator.getSpawnHeight(level), 8), 0.0F);
@@ -438,14 +434,14 @@ public final class ForgeEventHandler
         if (event.getWorld() instanceof final ServerLevel world)
         {
             final BlockPos pos = event.getPos();
-            final BlockState state = event.getState();
+            final byte flags = TrackedBlockFlags.get(event.getState());
 
-            if (Helpers.isBlock(state, TFCTags.Blocks.CAN_LANDSLIDE))
+            if ((flags & TrackedBlockFlags.LANDSLIDE) != 0)
             {
                 world.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addLandslidePos(pos));
             }
 
-            if (Helpers.isBlock(state, TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+            if ((flags & TrackedBlockFlags.ISOLATED) != 0)
             {
                 world.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addIsolatedPos(pos));
             }
@@ -456,20 +452,34 @@ public final class ForgeEventHandler
     {
         if (event.getWorld() instanceof final ServerLevel level)
         {
-            for (Direction direction : event.getNotifiedSides())
+            // Resolve the tracker once, rather than for each notified side
+            final IWorldTracker tracker = level.getCapability(WorldTrackerCapability.CAPABILITY).orElse(null);
+            if (tracker == null)
             {
-                // Check each notified block for a potential gravity block
-                final BlockPos pos = event.getPos().relative(direction);
-                final BlockState state = level.getBlockState(pos);
+                return;
+            }
 
-                if (Helpers.isBlock(state, TFCTags.Blocks.CAN_LANDSLIDE))
-                {
-                    level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addLandslidePos(pos));
-                }
+            // Any block change may add or remove a hydrating fluid
+            final BlockPos changedPos = event.getPos();
+            tracker.getHydrationField().onBlockChanged(changedPos.getX(), changedPos.getY(), changedPos.getZ());
 
-                if (Helpers.isBlock(state.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            for (Direction direction : event.getNotifiedSides())
+            {
+                // Check each notified block for a potential gravity block
+                cursor.setWithOffset(changedPos, direction);
+                final byte flags = TrackedBlockFlags.get(level.getBlockState(cursor));
+                if (flags != 0)
                 {
-                    level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addIsolatedPos(pos));
+                    final BlockPos pos = cursor.immutable();
+                    if ((flags & TrackedBlockFlags.LANDSLIDE) != 0)
+                    {
+                        tracker.addLandslidePos(pos);
+                    }
+                    if ((flags & TrackedBlockFlags.ISOLATED) != 0)
+                    {
+                        tracker.addIsolatedPos(pos);
+                    }
                 }
             }
         }
@@ -481,6 +491,10 @@ public final class ForgeEventHandler
         {
             event.world.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.tick(event.world));
         }
+        else
+        {
+            event.world.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.tickCalendarUpdates(event.world));
+        }
     }
 
     public static void onExplosionDetonate(ExplosionEvent.Detonate event)
@@ -913,4 +927,14 @@ public final class ForgeEventHandler
             event.setCanceled(true);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Fired on both sides, whenever tags are loaded or synced.
+     */
+    public static void onTagsUpdated(TagsUpdatedEvent event)
+    {
+        FluidHelpers.invalidateMixableFluids();
+        TrackedBlockFlags.rebuild();
+        ItemSizeManager.invalidateSizes();
+    }
+}
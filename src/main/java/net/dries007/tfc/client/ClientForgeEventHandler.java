@@ -7,6 +7,7 @@
 package net.dries007.tfc.client;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -77,6 +78,10 @@ public class ClientForgeEventHandler
 {
     private static final Field CAP_NBT_FIELD = Helpers.findUnobfField(ItemStack.class, "capNBT");
 
+    // Sampled once per client tick, rather than every frame
+    private static final SampledValue<List<String>> DEBUG_OVERLAY_TEXT = new SampledValue<>();
+    private static final SampledValue<Float> FOGGINESS = new SampledValue<>();
+
     public static void init()
     {
         final IEventBus bus = MinecraftForge.EVENT_BUS;
@@ -103,36 +108,44 @@ public class ClientForgeEventHandler
             BlockPos pos = new BlockPos(mc.getCameraEntity().getX(), mc.getCameraEntity().getBoundingBox().minY, mc.getCameraEntity().getZ());
             if (mc.level.hasChunk(pos.getX() >> 4, pos.getZ() >> 4))
             {
-                list.add("");
-                list.add(AQUA + TerraFirmaCraft.MOD_NAME);
+                list.addAll(DEBUG_OVERLAY_TEXT.get(pos.asLong(), () -> createDebugOverlayText(mc, pos)));
+            }
+        }
+    }
 
-                // Always add calendar info
-                list.add(I18n.get("tfc.tooltip.calendar_date") + Calendars.CLIENT.getCalendarTimeAndDate().getString());
+    private static List<String> createDebugOverlayText(Minecraft mc, BlockPos pos)
+    {
+        final List<String> list = new ArrayList<>();
+        list.add("");
+        list.add(AQUA + TerraFirmaCraft.MOD_NAME);
 
-                if (TFCConfig.CLIENT.enableDebug.get())
-                {
-                    list.add(String.format("[Debug] Ticks = %d, Calendar = %d, Daytime = %d", Calendars.CLIENT.getTicks(), Calendars.CLIENT.getCalendarTicks(), mc.getCameraEntity().level.getDayTime() % ICalendar.TICKS_IN_DAY));
-                }
+        // Always add calendar info
+        list.add(I18n.get("tfc.tooltip.calendar_date") + Calendars.CLIENT.getCalendarTimeAndDate().getString());
 
-                // Always add climate data
-                list.add(GRAY + I18n.get("tfc.tooltip.f3_average_temperature", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getAverageTemperature())));
-                list.add(GRAY + I18n.get("tfc.tooltip.f3_temperature", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getTemperature())));
-                list.add(GRAY + I18n.get("tfc.tooltip.f3_rainfall", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getRainfall())));
+        if (TFCConfig.CLIENT.enableDebug.get())
+        {
+            //noinspection ConstantConditions
+            list.add(String.format("[Debug] Ticks = %d, Calendar = %d, Daytime = %d", Calendars.CLIENT.getTicks(), Calendars.CLIENT.getCalendarTicks(), mc.getCameraEntity().level.getDayTime() % ICalendar.TICKS_IN_DAY));
+        }
 
-                ChunkData data = ChunkData.get(mc.level, pos);
-                if (data.getStatus() == ChunkData.Status.CLIENT)
-                {
-                    list.add(GRAY + I18n.get("tfc.tooltip.f3_forest_type") + WHITE + I18n.get(Helpers.getEnumTranslationKey(data.getForestType())));
-                    list.add(GRAY + I18n.get("tfc.tooltip.f3_forest_properties",
-                        WHITE + String.format("%.1f%%", 100 * data.getForestDensity()) + GRAY,
-                        WHITE + String.format("%.1f%%", 100 * data.getForestWeirdness()) + GRAY));
-                }
-                else
-                {
-                    list.add(GRAY + I18n.get("tfc.tooltip.f3_invalid_chunk_data"));
-                }
-            }
+        // Always add climate data
+        list.add(GRAY + I18n.get("tfc.tooltip.f3_average_temperature", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getAverageTemperature())));
+        list.add(GRAY + I18n.get("tfc.tooltip.f3_temperature", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getTemperature())));
+        list.add(GRAY + I18n.get("tfc.tooltip.f3_rainfall", WHITE + String.format("%.1f", ClimateRenderCache.INSTANCE.getRainfall())));
+
+        ChunkData data = ChunkData.get(mc.level, pos);
+        if (data.getStatus() == ChunkData.Status.CLIENT)
+        {
+            list.add(GRAY + I18n.get("tfc.tooltip.f3_forest_type") + WHITE + I18n.get(Helpers.getEnumTranslationKey(data.getForestType())));
+            list.add(GRAY + I18n.get("tfc.tooltip.f3_forest_properties",
+                WHITE + String.format("%.1f%%", 100 * data.getForestDensity()) + GRAY,
+                WHITE + String.format("%.1f%%", 100 * data.getForestWeirdness()) + GRAY));
+        }
+        else
+        {
+            list.add(GRAY + I18n.get("tfc.tooltip.f3_invalid_chunk_data"));
         }
+        return list;
     }
 
     /**
@@ -267,6 +280,8 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.onClientTick();
             ClimateRenderCache.INSTANCE.onClientTick();
+            DEBUG_OVERLAY_TEXT.invalidate();
+            FOGGINESS.invalidate();
         }
     }
 
@@ -322,7 +337,8 @@ public class ClientForgeEventHandler
         Minecraft mc = Minecraft.getInstance();
         if (mc.level != null && (event.getMode() == FogRenderer.FogMode.FOG_TERRAIN))
         {
-            final float fog = Climate.getFogginess(mc.level, event.getCamera().getBlockPosition());
+            final BlockPos pos = event.getCamera().getBlockPosition();
+            final float fog = FOGGINESS.get(pos.asLong(), () -> Climate.getFogginess(mc.level, pos));
             if (fog == 0) return;
             final float renderDistance = mc.gameRenderer.getRenderDistance();
             final float density = renderDistance * (1 - fog);
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A value used for rendering, which is expensive to compute relative to a frame, but only changes with the client tick, or the block position it is computed at.
+ * It is sampled at most once per client tick (see {@link #invalidate()}), or again if the position changes.
+ */
+public final class SampledValue<T>
+{
+    @Nullable private T value;
+    private long pos;
+    private boolean valid;
+
+    /**
+     * @param pos     The position the value is computed at, as a {@link net.minecraft.core.BlockPos#asLong()}.
+     * @param sampler Computes the value, if the last sampled value is no longer valid.
+     */
+    public T get(long pos, Supplier<T> sampler)
+    {
+        if (!valid || this.pos != pos || value == null)
+        {
+            value = sampler.get();
+            this.pos = pos;
+            valid = true;
+        }
+        return value;
+    }
+
+    /**
+     * Called every client tick, as the value may depend on time (i.e. the calendar, or climate).
+     */
+    public void invalidate()
+    {
+        valid = false;
+    }
+}
@@ -6,7 +6,6 @@
 
 package net.dries007.tfc.common.blockentities;
 
-import java.util.Arrays;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -37,6 +36,7 @@ import net.dries007.tfc.common.capabilities.heat.Heat;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.container.CharcoalForgeContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Fuel;
 import net.dries007.tfc.util.Helpers;
@@ -70,12 +70,6 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         forge.checkForLastTickSync();
         forge.checkForCalendarUpdate();
 
-        if (forge.needsRecipeUpdate)
-        {
-            forge.needsRecipeUpdate = false;
-            forge.updateCachedRecipes();
-        }
-
         boolean isRaining = level.isRainingAt(pos);
         if (state.getValue(CharcoalForgeBlock.HEAT) > 0)
         {
@@ -121,22 +115,8 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
                 above.getCapability(HeatCapability.BLOCK_CAPABILITY).ifPresent(cap -> cap.setTemperatureIfWarmer(forge.temperature));
             }
 
-            for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
-            {
-                ItemStack stack = forge.inventory.getStackInSlot(i);
-                int slot = i;
-                stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-                    // Update temperature of item
-                    float itemTemp = cap.getTemperature();
-                    if (forge.temperature > itemTemp)
-                    {
-                        HeatCapability.addTemp(cap, forge.temperature);
-                    }
-
-                    // Handle possible melting, or conversion (if reach 1599 = pit kiln temperature)
-                    forge.handleInputMelting(stack, slot);
-                });
-            }
+            // Update temperature of items, and handle possible melting, or conversion (if reach 1599 = pit kiln temperature)
+            HeatCapability.heatSlots(forge.inventory, SLOT_INPUT_MIN, SLOT_INPUT_MAX, forge.temperature, 3, true, (slot, stack, heat, before, after) -> forge.handleInputMelting(stack, slot, after));
             forge.markForSync();
         }
 
@@ -148,14 +128,13 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
     }
 
     protected final ContainerData syncableData;
-    private final HeatingRecipe[] cachedRecipes = new HeatingRecipe[5];
+    private final SlotRecipeCache<HeatingRecipe> cachedRecipes = HeatingRecipe.createSlotCache(SLOT_INPUT_MAX - SLOT_INPUT_MIN + 1);
     private boolean needsSlotUpdate = false;
     private float temperature; // Current Temperature
     private int burnTicks; // Ticks remaining on the current item of fuel
     private float burnTemperature; // Temperature provided from the current item of fuel
     private int airTicks; // Ticks of air provided by bellows
     private long lastPlayerTick; // Last player tick this forge was ticked (for purposes of catching up)
-    private boolean needsRecipeUpdate; // Set to indicate on tick, the cached recipes need to be re-updated
 
     public CharcoalForgeBlockEntity(BlockPos pos, BlockState state)
     {
@@ -167,8 +146,6 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         airTicks = 0;
         lastPlayerTick = Calendars.SERVER.getTicks();
         syncableData = new IntArrayBuilder().add(() -> (int) temperature, value -> temperature = value);
-
-        Arrays.fill(cachedRecipes, null);
     }
 
     public void onAirIntake(int amount)
@@ -264,7 +241,10 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
     {
         super.setAndUpdateSlots(slot);
         needsSlotUpdate = true;
-        updateCachedRecipes();
+        if (slot >= SLOT_INPUT_MIN && slot <= SLOT_INPUT_MAX)
+        {
+            cachedRecipes.invalidate(slot - SLOT_INPUT_MIN);
+        }
     }
 
     @Override
@@ -338,28 +318,25 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         markForSync();
     }
 
-    private void handleInputMelting(ItemStack stack, int startIndex)
+    private void handleInputMelting(ItemStack stack, int startIndex, float itemTemperature)
     {
-        HeatingRecipe recipe = cachedRecipes[startIndex - SLOT_INPUT_MIN];
-        stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-            if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
-            {
-                // Handle possible metal output
-                FluidStack fluidStack = recipe.getOutputFluid(new ItemStackInventory(stack));
-                ItemStack outputStack = recipe.assemble(new ItemStackInventory(stack));
-                float itemTemperature = cap.getTemperature();
-
-                // Loop through all input slots
-                for (int slot = SLOT_EXTRA_MIN; slot <= SLOT_EXTRA_MAX; slot++)
-                {
-                    fluidStack = Helpers.mergeOutputFluidIntoSlot(inventory, fluidStack, itemTemperature, slot);
-                    if (fluidStack.isEmpty()) break;
-                }
+        HeatingRecipe recipe = cachedRecipes.get(startIndex - SLOT_INPUT_MIN, stack);
+        if (recipe != null && recipe.isValidTemperature(itemTemperature))
+        {
+            // Handle possible metal output
+            FluidStack fluidStack = recipe.getOutputFluid(new ItemStackInventory(stack));
+            ItemStack outputStack = recipe.assemble(new ItemStackInventory(stack));
 
-                FoodCapability.applyTrait(outputStack, FoodTraits.CHARCOAL_GRILLED);
-                inventory.setStackInSlot(startIndex, outputStack);
+            // Loop through all input slots
+            for (int slot = SLOT_EXTRA_MIN; slot <= SLOT_EXTRA_MAX; slot++)
+            {
+                fluidStack = Helpers.mergeOutputFluidIntoSlot(inventory, fluidStack, itemTemperature, slot);
+                if (fluidStack.isEmpty()) break;
             }
-        });
+
+            FoodCapability.applyTrait(outputStack, FoodTraits.CHARCOAL_GRILLED);
+            inventory.setStackInSlot(startIndex, outputStack);
+        }
     }
 
     private void cascadeFuelSlots()
@@ -382,19 +359,4 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         }
         needsSlotUpdate = false;
     }
-
-    private void updateCachedRecipes()
-    {
-        // cache heat recipes for each input
-        assert level != null;
-        for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
-        {
-            cachedRecipes[i - SLOT_INPUT_MIN] = null;
-            ItemStack inputStack = inventory.getStackInSlot(i);
-            if (!inputStack.isEmpty())
-            {
-                cachedRecipes[i - SLOT_INPUT_MIN] = HeatingRecipe.getRecipe(new ItemStackInventory(inputStack));
-            }
-        }
-    }
 }
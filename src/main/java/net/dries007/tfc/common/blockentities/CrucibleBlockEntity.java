@@ -37,6 +37,7 @@ import net.dries007.tfc.common.capabilities.heat.IHeatBlock;
 import net.dries007.tfc.common.container.CrucibleContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.*;
@@ -59,12 +60,6 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
         crucible.checkForLastTickSync();
         crucible.checkForCalendarUpdate();
 
-        if (crucible.needsRecipeUpdate)
-        {
-            crucible.needsRecipeUpdate = false;
-            crucible.updateCaches();
-        }
-
         if (crucible.temperature != crucible.targetTemperature)
         {
             crucible.temperature = HeatCapability.adjustTempTowards(crucible.temperature, crucible.targetTemperature);
@@ -79,48 +74,33 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
             crucible.targetTemperature = HeatCapability.adjustTempTowards(crucible.targetTemperature, 0);
         }
 
-        // Input draining
-        boolean canFill = crucible.lastFillTicks <= 0;
-        for (int i = SLOT_INPUT_START; i <= SLOT_INPUT_END; i++)
-        {
-            final int slot = i;
-            final ItemStack inputStack = crucible.inventory.getStackInSlot(i);
-            if (!inputStack.isEmpty())
+        // Input heating. Always heat up the item regardless if it is melting or not
+        HeatCapability.heatSlots(crucible.inventory, SLOT_INPUT_START, SLOT_INPUT_END, crucible.temperature, 2 + crucible.temperature * 0.0025f, true, (slot, inputStack, heat, before, after) -> { // Breaks even at 400 C
+            final HeatingRecipe recipe = crucible.cachedRecipes.get(slot, inputStack);
+            if (recipe != null && recipe.isValidTemperature(after))
             {
-                inputStack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-
-                    // Always heat up the item regardless if it is melting or not
-                    if (cap.getTemperature() < crucible.temperature)
-                    {
-                        HeatCapability.addTemp(cap, crucible.temperature, 2 + crucible.temperature * 0.0025f); // Breaks even at 400 C
-                    }
-
-                    final HeatingRecipe recipe = crucible.cachedRecipes[slot];
-                    if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
-                    {
-                        // Convert input
-                        final ItemStackInventory inventory = new ItemStackInventory(inputStack);
-                        final ItemStack outputItem = recipe.assemble(inventory);
-                        final FluidStack outputFluid = recipe.getOutputFluid(inventory);
-
-                        // Output transformations
-                        FoodCapability.applyTrait(outputItem, FoodTraits.BURNT_TO_A_CRISP);
-                        outputItem.getCapability(HeatCapability.CAPABILITY).ifPresent(outputCap -> outputCap.setTemperature(crucible.temperature));
-
-                        // Add output to crucible
-                        crucible.inventory.setStackInSlot(slot, outputItem);
-                        crucible.inventory.fill(outputFluid, IFluidHandler.FluidAction.EXECUTE);
-                        crucible.markForSync();
-                    }
-                });
+                // Convert input
+                final ItemStackInventory inventory = new ItemStackInventory(inputStack);
+                final ItemStack outputItem = recipe.assemble(inventory);
+                final FluidStack outputFluid = recipe.getOutputFluid(inventory);
+
+                // Output transformations
+                FoodCapability.applyTrait(outputItem, FoodTraits.BURNT_TO_A_CRISP);
+                outputItem.getCapability(HeatCapability.CAPABILITY).ifPresent(outputCap -> outputCap.setTemperature(crucible.temperature));
+
+                // Add output to crucible
+                crucible.inventory.setStackInSlot(slot, outputItem);
+                crucible.inventory.fill(outputFluid, IFluidHandler.FluidAction.EXECUTE);
+                crucible.markForSync();
             }
+        });
 
-            if (canFill)
+        // Input draining. Try to handle draining from a mold-like item
+        if (crucible.lastFillTicks <= 0)
+        {
+            for (int i = SLOT_INPUT_START; i <= SLOT_INPUT_END; i++)
             {
-                // Re-query the input stack, as it may have changed.
-                // Try to handle draining from a mold-like item
-                final ItemStack drainStack = crucible.inventory.getStackInSlot(i);
-                MoldLike mold = MoldLike.get(drainStack);
+                final MoldLike mold = MoldLike.get(crucible.inventory.getStackInSlot(i));
                 if (mold != null && mold.isMolten())
                 {
                     // Drain contents into the crucible
@@ -156,10 +136,9 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
     private final SidedHandler.Noop<IHeatBlock> sidedHeat;
     private final IntArrayBuilder syncableData;
 
-    private final HeatingRecipe[] cachedRecipes;
+    private final SlotRecipeCache<HeatingRecipe> cachedRecipes;
     private float temperature;
     private float targetTemperature;
-    private boolean needsRecipeUpdate;
 
     /**
      * Prevent the target temperature from "hovering" around a particular value.
@@ -173,8 +152,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
     {
         super(TFCBlockEntities.CRUCIBLE.get(), pos, state, CrucibleInventory::new, NAME);
 
-        cachedRecipes = new HeatingRecipe[9];
-        needsRecipeUpdate = true;
+        cachedRecipes = HeatingRecipe.createSlotCache(SLOT_INPUT_END + 1);
         temperature = targetTemperature = 0;
         lastFillTicks = 0;
         lastUpdateTick = 0;
@@ -250,7 +228,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
         temperature = nbt.getFloat("temperature");
         targetTemperature = nbt.getFloat("targetTemperature");
         targetTemperatureStabilityTicks = nbt.getInt("targetTemperatureStabilityTicks");
-        needsRecipeUpdate = true;
+        cachedRecipes.invalidate();
         super.loadAdditional(nbt);
     }
 
@@ -285,15 +263,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
         super.setAndUpdateSlots(slot);
         if (slot != SLOT_OUTPUT)
         {
-            cachedRecipes[slot] = HeatingRecipe.getRecipe(inventory.getStackInSlot(slot));
-        }
-    }
-
-    private void updateCaches()
-    {
-        for (int slot = SLOT_INPUT_START; slot <= SLOT_INPUT_END; slot++)
-        {
-            cachedRecipes[slot] = HeatingRecipe.getRecipe(inventory.getStackInSlot(slot));
+            cachedRecipes.invalidate(slot);
         }
     }
 
@@ -80,21 +80,21 @@ public class FarmlandBlockEntity extends TFCBlockEntity
 
 
     /**
-     * Consume up to {@code amount} of nutrient {@code type}.
+     * Consume up to {@code amount} of nutrient {@code type}, from {@code nutrients}, which are indexed by {@link NutrientType#ordinal()}.
      * Additionally, increase all other nutrients by 1/6 the consumed value (effectively, recovering 33% of the consumed nutrients)
      * @return The amount of nutrient {@code type} that was actually consumed.
      */
-    public float consumeNutrientAndResupplyOthers(NutrientType type, float amount)
+    public static float consumeNutrientAndResupplyOthers(float[] nutrients, int type, float amount)
     {
-        final float startValue = getNutrient(type);
+        final float startValue = nutrients[type];
         final float consumed = Math.min(startValue, amount);
 
-        setNutrient(type, startValue - consumed);
-        for (NutrientType other : NutrientType.VALUES)
+        nutrients[type] = Mth.clamp(startValue - consumed, 0, 1);
+        for (int other = 0; other < nutrients.length; other++)
         {
             if (other != type)
             {
-                addNutrient(other, consumed * (1 / 6f));
+                nutrients[other] = Mth.clamp(nutrients[other] + consumed * (1 / 6f), 0, 1);
             }
         }
 
@@ -140,6 +140,6 @@ public class FarmlandBlockEntity extends TFCBlockEntity
     {
         NITROGEN, PHOSPHOROUS, POTASSIUM;
 
-        private static final NutrientType[] VALUES = values();
+        public static final NutrientType[] VALUES = values();
     }
 }
@@ -23,6 +23,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.container.FirepitContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Helpers;
 
@@ -36,7 +37,7 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
 
     private static final Component NAME = new TranslatableComponent(MOD_ID + ".tile_entity.firepit");
 
-    @Nullable protected HeatingRecipe cachedRecipe;
+    protected final SlotRecipeCache<HeatingRecipe> cachedRecipe = HeatingRecipe.createSlotCache(1);
 
     public FirepitBlockEntity(BlockPos pos, BlockState state)
     {
@@ -55,14 +56,10 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     {
         if (temperature > 0)
         {
-            final ItemStack inputStack = inventory.getStackInSlot(SLOT_ITEM_INPUT);
-            inputStack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-                float itemTemp = cap.getTemperature();
-                HeatCapability.addTemp(cap, temperature);
-
-                if (cachedRecipe != null && cachedRecipe.isValidTemperature(itemTemp))
+            HeatCapability.heatSlots(inventory, SLOT_ITEM_INPUT, SLOT_ITEM_INPUT, temperature, 3, false, (slot, inputStack, heat, itemTemp, newItemTemp) -> {
+                final HeatingRecipe recipe = cachedRecipe.get(0, inputStack);
+                if (recipe != null && recipe.isValidTemperature(itemTemp))
                 {
-                    HeatingRecipe recipe = cachedRecipe;
                     ItemStackInventory wrapper = new ItemStackInventory(inputStack);
 
                     // Clear input
@@ -70,7 +67,7 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
 
                     // Handle outputs
                     mergeOutputStack(recipe.assemble(wrapper));
-                    mergeOutputFluids(recipe.getOutputFluid(wrapper), cap.getTemperature());
+                    mergeOutputFluids(recipe.getOutputFluid(wrapper), newItemTemp);
                 }
             });
         }
@@ -85,8 +82,7 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     @Override
     protected void updateCachedRecipe()
     {
-        assert level != null;
-        cachedRecipe = HeatingRecipe.getRecipe(new ItemStackInventory(inventory.getStackInSlot(FirepitBlockEntity.SLOT_ITEM_INPUT)));
+        cachedRecipe.invalidate();
     }
 
     /**
@@ -25,6 +25,7 @@ import net.dries007.tfc.common.capabilities.food.FoodTraits;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.container.GrillContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Fuel;
 import net.dries007.tfc.util.Helpers;
@@ -38,13 +39,13 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
 
     private static final Component NAME = new TranslatableComponent(MOD_ID + ".tile_entity.grill");
 
-    private final HeatingRecipe[] cachedRecipes;
+    private final SlotRecipeCache<HeatingRecipe> cachedRecipes;
 
     public GrillBlockEntity(BlockPos pos, BlockState state)
     {
         super(TFCBlockEntities.GRILL.get(), pos, state, defaultInventory(9), NAME);
 
-        cachedRecipes = new HeatingRecipe[5];
+        cachedRecipes = HeatingRecipe.createSlotCache(SLOT_EXTRA_INPUT_END - SLOT_EXTRA_INPUT_START + 1);
         sidedInventory
             .on(new PartialItemHandler(inventory).insert(SLOT_FUEL_INPUT).extract(4, 5, 6, 7, 8), Direction.Plane.HORIZONTAL)
             .on(new PartialItemHandler(inventory).insert(4, 5, 6, 7, 8), Direction.UP);
@@ -76,22 +77,16 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     @Override
     protected void handleCooking()
     {
-        for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
-        {
-            final ItemStack inputStack = inventory.getStackInSlot(slot);
-            final int finalSlot = slot;
-            inputStack.getCapability(HeatCapability.CAPABILITY, null).ifPresent(cap -> {
-                HeatCapability.addTemp(cap, temperature);
-                HeatingRecipe recipe = cachedRecipes[finalSlot - SLOT_EXTRA_INPUT_START];
-                if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
-                {
-                    ItemStack output = recipe.assemble(new ItemStackInventory(inputStack));
-                    FoodCapability.applyTrait(output, FoodTraits.WOOD_GRILLED);
-                    inventory.setStackInSlot(finalSlot, output);
-                    markForSync();
-                }
-            });
-        }
+        HeatCapability.heatSlots(inventory, SLOT_EXTRA_INPUT_START, SLOT_EXTRA_INPUT_END, temperature, 3, false, (slot, inputStack, heat, before, after) -> {
+            HeatingRecipe recipe = cachedRecipes.get(slot - SLOT_EXTRA_INPUT_START, inputStack);
+            if (recipe != null && recipe.isValidTemperature(after))
+            {
+                ItemStack output = recipe.assemble(new ItemStackInventory(inputStack));
+                FoodCapability.applyTrait(output, FoodTraits.WOOD_GRILLED);
+                inventory.setStackInSlot(slot, output);
+                markForSync();
+            }
+        });
     }
 
     @Override
@@ -106,11 +101,6 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     @Override
     protected void updateCachedRecipe()
     {
-        assert level != null;
-        for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
-        {
-            final ItemStack stack = inventory.getStackInSlot(slot);
-            cachedRecipes[slot - SLOT_EXTRA_INPUT_START] = stack.isEmpty() ? null : HeatingRecipe.getRecipe(new ItemStackInventory(stack));
-        }
+        cachedRecipes.invalidate();
     }
 }
@@ -27,6 +27,7 @@ import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.blocks.devices.PitKilnBlock;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.calendar.Calendars;
@@ -37,19 +38,35 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
     public static final int STRAW_NEEDED = 8;
     public static final int WOOD_NEEDED = 8;
 
+    private static final int VALIDATION_INTERVAL = 20;
+
     public static void serverTick(Level level, BlockPos pos, BlockState state, PitKilnBlockEntity pitKiln)
     {
         if (pitKiln.isLit)
         {
-            BlockPos above = pos.above();
-            if (level.isEmptyBlock(above))
-            {
-                level.setBlockAndUpdate(above, Blocks.FIRE.defaultBlockState());
-            }
-            else
+            // The fire and structure only depend on adjacent blocks, so they are only checked after a neighbor has changed, or periodically in case a neighbor was changed without an update
+            if (pitKiln.needsValidation || level.getGameTime() % VALIDATION_INTERVAL == 0)
             {
-                BlockState stateAbove = level.getBlockState(above);
-                if (stateAbove.getMaterial() != Material.FIRE)
+                pitKiln.needsValidation = false;
+
+                BlockPos above = pos.above();
+                if (level.isEmptyBlock(above))
+                {
+                    level.setBlockAndUpdate(above, Blocks.FIRE.defaultBlockState());
+                }
+                else
+                {
+                    BlockState stateAbove = level.getBlockState(above);
+                    if (stateAbove.getMaterial() != Material.FIRE)
+                    {
+                        // consume contents, don't cook items, convert to placed item
+                        pitKiln.emptyFuelContents();
+                        convertPitKilnToPlacedItem(level, pos);
+                        return;
+                    }
+                }
+
+                if (!isValid(level, pos))
                 {
                     // consume contents, don't cook items, convert to placed item
                     pitKiln.emptyFuelContents();
@@ -58,14 +75,6 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
                 }
             }
 
-            if (!isValid(level, pos))
-            {
-                // consume contents, don't cook items, convert to placed item
-                pitKiln.emptyFuelContents();
-                convertPitKilnToPlacedItem(level, pos);
-                return;
-            }
-
             pitKiln.cookContents();
 
             long remainingTicks = TFCConfig.SERVER.pitKilnTicks.get() - (Calendars.SERVER.getTicks() - pitKiln.litTick);
@@ -135,9 +144,10 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
 
     private final NonNullList<ItemStack> logItems = NonNullList.withSize(WOOD_NEEDED, ItemStack.EMPTY);
     private final NonNullList<ItemStack> strawItems = NonNullList.withSize(STRAW_NEEDED, ItemStack.EMPTY);
-    private final HeatingRecipe[] cachedRecipes;
+    private final SlotRecipeCache<HeatingRecipe> cachedRecipes;
     private long litTick;
     private boolean isLit;
+    private boolean needsValidation = true; // Not saved, so a loaded kiln is always checked on the first tick
 
     public PitKilnBlockEntity(BlockPos pos, BlockState state)
     {
@@ -147,7 +157,7 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
     protected PitKilnBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state)
     {
         super(type, pos, state);
-        cachedRecipes = new HeatingRecipe[4];
+        cachedRecipes = HeatingRecipe.createSlotCache(4);
     }
 
     @Override
@@ -157,7 +167,7 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
         litTick = nbt.getLong("litTick");
         ContainerHelper.loadAllItems(nbt.getCompound("strawItems"), strawItems);
         ContainerHelper.loadAllItems(nbt.getCompound("logItems"), logItems);
-        updateCache();
+        cachedRecipes.invalidate();
         super.loadAdditional(nbt);
     }
 
@@ -209,19 +219,13 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
 
     public boolean tryLight()
     {
-        updateCache();
+        cachedRecipes.invalidate();
         if (hasFuel() && level != null && isValid(level, worldPosition) && !isLit())
         {
             BlockPos above = worldPosition.above();
             if (BaseFireBlock.canBePlacedAt(level, above, Direction.UP))
             {
-                for (Direction facing : Direction.Plane.HORIZONTAL)
-                {
-                    if (!level.getBlockState(worldPosition.relative(facing)).isFaceSturdy(level, worldPosition.relative(facing), facing.getOpposite()))
-                    {
-                        return false;
-                    }
-                }
+                // isValid() has already checked that every horizontal face is sturdy
                 isLit = true;
                 litTick = Calendars.SERVER.getTicks();
                 markForBlockUpdate();
@@ -244,6 +248,14 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
         return false;
     }
 
+    /**
+     * Called when an adjacent block changes, which may have put out the fire or broken the structure of the kiln.
+     */
+    public void onNeighborChanged()
+    {
+        needsValidation = true;
+    }
+
     public void emptyFuelContents()
     {
         strawItems.clear();
@@ -284,7 +296,7 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
             final int slot = i; // the boy genius LexManos has turned me into a functional programmer
             stack.getCapability(HeatCapability.CAPABILITY).ifPresent(heat -> {
                 heat.setTemperature(targetTemperature); // Heat each individual item
-                final HeatingRecipe recipe = cachedRecipes[slot]; // And transform recipes
+                final HeatingRecipe recipe = cachedRecipes.get(slot, stack); // And transform recipes
                 if (recipe != null && recipe.isValidTemperature(targetTemperature))
                 {
                     final ItemStack out = recipe.assemble(new ItemStackInventory(stack)); // Liquids are lost
@@ -293,13 +305,4 @@ public class PitKilnBlockEntity extends PlacedItemBlockEntity
             });
         }
     }
-
-    private void updateCache()
-    {
-        if (level == null) return;
-        for (int i = 0; i < 4; i++)
-        {
-            cachedRecipes[i] = HeatingRecipe.getRecipe(new ItemStackInventory(inventory.getStackInSlot(i)));
-        }
-    }
 }
@@ -21,6 +21,7 @@ import net.minecraftforge.items.ItemStackHandler;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.recipes.QuernRecipe;
+import net.dries007.tfc.common.recipes.SlotRecipeCache;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Helpers;
 
@@ -91,11 +92,13 @@ public class QuernBlockEntity extends InventoryBlockEntity<ItemStackHandler>
         level.addParticle(new ItemParticleOption(ParticleTypes.ITEM, item), pos.getX() + 0.5D, pos.getY() + 0.875D, pos.getZ() + 0.5D, Helpers.triangle(level.random) / 2.0D, level.random.nextDouble() / 4.0D, Helpers.triangle(level.random) / 2.0D);
     }
 
+    private final SlotRecipeCache<QuernRecipe> cachedRecipe;
     private int rotationTimer;
 
     public QuernBlockEntity(BlockPos pos, BlockState state)
     {
         super(TFCBlockEntities.QUERN.get(), pos, state, defaultInventory(3), NAME);
+        cachedRecipe = new SlotRecipeCache<>(1, QuernRecipe.SLOT_CACHE_STATS, stack -> QuernRecipe.getRecipe(level, new ItemStackInventory(stack)));
         rotationTimer = 0;
     }
 
@@ -159,7 +162,7 @@ public class QuernBlockEntity extends InventoryBlockEntity<ItemStackHandler>
             if (!inputStack.isEmpty())
             {
                 final ItemStackInventory wrapper = new ItemStackInventory(inputStack);
-                final QuernRecipe recipe = QuernRecipe.getRecipe(level, wrapper);
+                final QuernRecipe recipe = cachedRecipe.get(0, inputStack);
                 if (recipe != null && recipe.matches(wrapper, level))
                 {
                     rotationTimer = 90;
@@ -180,7 +183,7 @@ public class QuernBlockEntity extends InventoryBlockEntity<ItemStackHandler>
             if (!inputStack.isEmpty())
             {
                 final ItemStackInventory wrapper = new ItemStackInventory(inputStack);
-                final QuernRecipe recipe = QuernRecipe.getRecipe(level, wrapper);
+                final QuernRecipe recipe = cachedRecipe.get(0, inputStack);
                 if (recipe != null && recipe.matches(wrapper, level))
                 {
                     inputStack.shrink(1);
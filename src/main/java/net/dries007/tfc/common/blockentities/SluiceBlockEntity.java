@@ -17,10 +17,8 @@ import net.minecraft.tags.FluidTags;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.BlockItem;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FlowingFluid;
 import net.minecraft.world.level.material.Fluid;
@@ -47,23 +45,21 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
     public static void serverTick(Level level, BlockPos pos, BlockState state, SluiceBlockEntity sluice)
     {
         if (!state.getValue(SluiceBlock.UPPER)) return; // only tick the top block
-        if (sluice.hasFlow() && --sluice.ticksRemaining <= 0) // consume a single ore block
+        if (sluice.soilCount > 0 && sluice.hasFlow() && --sluice.ticksRemaining <= 0) // consume a single ore block. An empty sluice has nothing to consume, so it holds the timer until soil is added
         {
-            boolean itemUsed = false;
-            for (ItemStack stack : Helpers.iterate(sluice.inventory))
+            for (int slot = 0; slot < sluice.inventory.getSlots(); slot++)
             {
-                final Item item = stack.getItem();
-                if (!stack.isEmpty() && item instanceof BlockItem blockItem)
+                final ItemStack stack = sluice.inventory.getStackInSlot(slot);
+                if (!stack.isEmpty() && stack.getItem() instanceof BlockItem blockItem)
                 {
                     PanItem.dropItems((ServerLevel) level, blockItem.getBlock().defaultBlockState(), sluice.getWaterOutputPos());
-                    stack.setCount(0);
-                    itemUsed = true;
+                    sluice.inventory.setStackInSlot(slot, ItemStack.EMPTY);
+                    Helpers.playSound(level, sluice.getBlockPos(), SoundEvents.ITEM_PICKUP);
+                    sluice.markForSync();
                     break;
                 }
             }
-            if (itemUsed) Helpers.playSound(level, sluice.getBlockPos(), SoundEvents.ITEM_PICKUP);
             sluice.ticksRemaining = TFCConfig.SERVER.sluiceTicks.get();
-            sluice.markForSync();
         }
         else if (level.getGameTime() % 20 == 0)
         {
@@ -76,37 +72,14 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
                     FluidHelpers.setSourceBlock(level, outputPos, fluid);
                 }
             }
-            // Consume inputs
-            for (ItemEntity entity : level.getEntitiesOfClass(ItemEntity.class, new AABB(pos).inflate(1D), entity -> !entity.isRemoved()))
+            // Consume inputs. Most items are caught by the sluice itself, see insertItem(), this picks up any which land nearby.
+            if (sluice.soilCount < MAX_SOIL)
             {
-                ItemStack stack = entity.getItem();
-                if (stack.getItem() instanceof BlockItem blockItem)
+                for (ItemEntity entity : level.getEntitiesOfClass(ItemEntity.class, new AABB(pos).inflate(1D), entity -> !entity.isRemoved()))
                 {
-                    Block block = blockItem.getBlock();
-                    if (Helpers.isBlock(block.defaultBlockState(), TFCTags.Blocks.CAN_BE_PANNED))
+                    if (sluice.insertItem(entity) && entity.isRemoved())
                     {
-                        boolean itemUsed = false;
-                        for (int slot = 0; slot < sluice.inventory.getSlots(); slot++)
-                        {
-                            if (sluice.inventory.getStackInSlot(slot).isEmpty())
-                            {
-                                ItemStack setStack = stack.copy();
-                                setStack.setCount(1);
-                                sluice.inventory.setStackInSlot(slot, setStack);
-                                itemUsed = true;
-                                break;
-                            }
-                        }
-                        if (itemUsed)
-                        {
-                            sluice.markForSync();
-                            stack.shrink(1);
-                            if (entity.getItem().getCount() <= 0)
-                            {
-                                entity.setRemoved(Entity.RemovalReason.DISCARDED);
-                                break;
-                            }
-                        }
+                        break;
                     }
                 }
             }
@@ -114,6 +87,7 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
     }
 
     private int ticksRemaining;
+    private int soilCount; // Number of non-empty slots, updated whenever the inventory changes
 
     public SluiceBlockEntity(BlockPos pos, BlockState state)
     {
@@ -126,6 +100,7 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
     {
         ticksRemaining = nbt.getInt("ticksRemaining");
         super.loadAdditional(nbt);
+        updateSoilCount();
     }
 
     @Override
@@ -141,6 +116,49 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
         return 1;
     }
 
+    @Override
+    public void setAndUpdateSlots(int slot)
+    {
+        updateSoilCount();
+        super.setAndUpdateSlots(slot);
+    }
+
+    /**
+     * Attempts to insert a single soil item from an item entity, which is either touching or nearby the sluice.
+     *
+     * @return {@code true} if an item was inserted.
+     */
+    public boolean insertItem(ItemEntity entity)
+    {
+        final ItemStack stack = entity.getItem();
+        if (soilCount < MAX_SOIL && stack.getItem() instanceof BlockItem blockItem && Helpers.isBlock(blockItem.getBlock().defaultBlockState(), TFCTags.Blocks.CAN_BE_PANNED))
+        {
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                if (inventory.getStackInSlot(slot).isEmpty())
+                {
+                    if (soilCount == 0)
+                    {
+                        ticksRemaining = TFCConfig.SERVER.sluiceTicks.get(); // Start the timer from when the first soil arrives
+                    }
+
+                    final ItemStack setStack = stack.copy();
+                    setStack.setCount(1);
+                    inventory.setStackInSlot(slot, setStack);
+                    markForSync();
+
+                    stack.shrink(1);
+                    if (stack.getCount() <= 0)
+                    {
+                        entity.setRemoved(Entity.RemovalReason.DISCARDED);
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public Direction getFacing()
     {
         return getBlockState().getValue(SluiceBlock.FACING);
@@ -156,6 +174,19 @@ public class SluiceBlockEntity extends InventoryBlockEntity<ItemStackHandler>
         return getBlockPos().above().relative(getFacing().getOpposite());
     }
 
+    private void updateSoilCount()
+    {
+        int count = 0;
+        for (ItemStack stack : Helpers.iterate(inventory))
+        {
+            if (!stack.isEmpty())
+            {
+                count++;
+            }
+        }
+        soilCount = count;
+    }
+
     private boolean hasFlow()
     {
         assert level != null;
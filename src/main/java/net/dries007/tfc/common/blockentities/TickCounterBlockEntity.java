@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.function.BooleanSupplier;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -18,6 +20,9 @@ public class TickCounterBlockEntity extends TFCBlockEntity
 {
     protected long lastUpdateTick = Integer.MIN_VALUE;
 
+    private long climateCheckDay = Long.MIN_VALUE; // Not serialized, as the check is cheap to make again
+    private boolean validClimate;
+
     public TickCounterBlockEntity(BlockPos pos, BlockState state)
     {
         this(TFCBlockEntities.TICK_COUNTER.get(), pos, state);
@@ -39,6 +44,19 @@ public class TickCounterBlockEntity extends TFCBlockEntity
         setChanged();
     }
 
+    /**
+     * For blocks which check their climate on every random tick. The check is made at most once per calendar day, and the result is reused for the rest of that day.
+     */
+    public boolean isValidClimateOnDay(long day, BooleanSupplier check)
+    {
+        if (climateCheckDay != day)
+        {
+            validClimate = check.getAsBoolean();
+            climateCheckDay = day;
+        }
+        return validClimate;
+    }
+
     public void reduceCounter(long amount)
     {
         lastUpdateTick += amount;
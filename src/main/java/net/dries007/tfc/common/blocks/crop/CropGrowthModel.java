@@ -0,0 +1,144 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.crop;
+
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.climate.ClimateRange;
+
+import static net.dries007.tfc.common.blocks.crop.CropHelpers.*;
+
+/**
+ * The growth model of a single crop, over a catch-up period, using only primitive state.
+ * Everything which cannot change while a crop is not being ticked (hydration, climate range, growth limit) is resolved once up front, and the crop and farmland values are read and written only at the start and end of the period.
+ * Temperatures are supplied by the caller, who only needs to sample the climate once per interval, as the end of one interval is the start of the next.
+ *
+ * @see CropHelpers#growthTick
+ */
+public final class CropGrowthModel
+{
+    public static CropGrowthModel create(ClimateRange range, int hydration, float growthLimit, FarmlandBlockEntity.NutrientType primaryNutrient, float growth, float yield, float expiry, float[] nutrients)
+    {
+        return new CropGrowthModel(
+            range.getMinTemperature(false), range.getMaxTemperature(false),
+            range.getMinTemperature(true), range.getMaxTemperature(true),
+            range.checkHydration(hydration, false) == ClimateRange.Result.VALID,
+            range.checkHydration(hydration, true) == ClimateRange.Result.VALID,
+            growthLimit, primaryNutrient.ordinal(), growth, yield, expiry, nutrients
+        );
+    }
+
+    private final float minGrowingTemperature, maxGrowingTemperature;
+    private final float minHealthyTemperature, maxHealthyTemperature;
+    private final boolean growingHydration, healthyHydration;
+    private final float growthLimit;
+    private final int primaryNutrient;
+
+    private final float[] nutrients;
+    private float growth, yield, expiry;
+
+    /**
+     * @param nutrients The available nutrients, indexed by {@link FarmlandBlockEntity.NutrientType#ordinal()}. This array is modified as nutrients are consumed.
+     */
+    public CropGrowthModel(float minGrowingTemperature, float maxGrowingTemperature, float minHealthyTemperature, float maxHealthyTemperature, boolean growingHydration, boolean healthyHydration, float growthLimit, int primaryNutrient, float growth, float yield, float expiry, float[] nutrients)
+    {
+        this.minGrowingTemperature = minGrowingTemperature;
+        this.maxGrowingTemperature = maxGrowingTemperature;
+        this.minHealthyTemperature = minHealthyTemperature;
+        this.maxHealthyTemperature = maxHealthyTemperature;
+        this.growingHydration = growingHydration;
+        this.healthyHydration = healthyHydration;
+        this.growthLimit = growthLimit;
+        this.primaryNutrient = primaryNutrient;
+        this.growth = growth;
+        this.yield = yield;
+        this.expiry = expiry;
+        this.nutrients = nutrients;
+    }
+
+    /**
+     * Advance the crop by a single interval.
+     *
+     * @param tickDelta The length of the interval, in ticks.
+     * @param startTemperature The temperature at the start of the interval.
+     * @param endTemperature The temperature at the end of the interval.
+     * @param growthModifier A random modifier to the growth rate, in [0.9, 1.1).
+     * @return {@code true} if the crop survived the interval.
+     */
+    public boolean step(long tickDelta, float startTemperature, float endTemperature, float growthModifier)
+    {
+        final boolean growing = growingHydration && inRange(startTemperature, minGrowingTemperature, maxGrowingTemperature) && inRange(endTemperature, minGrowingTemperature, maxGrowingTemperature);
+        final boolean healthy = growing || (healthyHydration && inRange(startTemperature, minHealthyTemperature, maxHealthyTemperature) && inRange(endTemperature, minHealthyTemperature, maxHealthyTemperature));
+
+        // Nutrients are consumed first, since they are independent of growth or health.
+        final float nutrientsAvailable = nutrients[primaryNutrient], nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta;
+        final float nutrientsConsumed = FarmlandBlockEntity.consumeNutrientAndResupplyOthers(nutrients, primaryNutrient, nutrientsRequired);
+
+        // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
+        float totalGrowthDelta = growthModifier * tickDelta * GROWTH_FACTOR + nutrientsConsumed * NUTRIENT_GROWTH_FACTOR;
+        final float initialGrowth = growth;
+
+        if (totalGrowthDelta > 0 && growing && growth < growthLimit)
+        {
+            // Allocate to growth
+            final float delta = Math.min(totalGrowthDelta, growthLimit - growth);
+
+            growth += delta;
+            totalGrowthDelta -= delta;
+        }
+        if (totalGrowthDelta > 0)
+        {
+            // Allocate remaining growth to expiry
+            final float delta = Math.min(totalGrowthDelta, EXPIRY_LIMIT - expiry);
+
+            expiry += delta;
+            totalGrowthDelta -= delta;
+        }
+
+        // Calculate yield, which depends both on a flat rate per growth, and on the nutrient satisfaction, which is a measure of nutrient consumption over the growth time.
+        final float growthDelta = growth - initialGrowth;
+        final float nutrientSatisfaction;
+        if (growthDelta <= 0 || nutrientsRequired <= 0)
+        {
+            nutrientSatisfaction = 1; // Either condition causes the below formula to result in NaN
+        }
+        else
+        {
+            nutrientSatisfaction = Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+        }
+
+        yield += growthDelta * Helpers.lerp(nutrientSatisfaction, YIELD_MIN, YIELD_LIMIT);
+
+        // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
+        return expiry < EXPIRY_LIMIT && healthy;
+    }
+
+    public float getGrowth()
+    {
+        return growth;
+    }
+
+    public float getYield()
+    {
+        return yield;
+    }
+
+    public float getExpiry()
+    {
+        return expiry;
+    }
+
+    public float[] getNutrients()
+    {
+        return nutrients;
+    }
+
+    private static boolean inRange(float value, float min, float max)
+    {
+        return value >= min && value <= max;
+    }
+}
@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blocks.crop;
 
 import java.util.Random;
+import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
@@ -30,7 +31,6 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
-import net.dries007.tfc.util.climate.ClimateRange;
 
 /**
  * Common growth logic for crop blocks
@@ -48,107 +48,64 @@ public final class CropHelpers
     public static final float YIELD_LIMIT = 1f;
 
     /**
+     * Catches up a crop from its last update tick to the current tick, in {@link #UPDATE_INTERVAL} steps.
+     * Anything that cannot change while the crop is not ticking is resolved once, and the temperature is sampled once per step, as the end of one step is the start of the next.
+     *
      * @return {@code true} if the crop survived.
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
         final long firstTick = crop.getLastUpdateTick(), thisTick = Calendars.SERVER.getTicks();
-        long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
-        for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
+        if (firstTick >= thisTick)
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
-            {
-                return false;
-            }
-            lastTick = tick;
+            return true;
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
-    }
 
-    public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, Random random, long fromTick, long toTick, CropBlockEntity crop)
-    {
         // Calculate invariants
         final ICalendar calendar = Calendars.get(level);
         final BlockPos sourcePos = pos.below();
         final int hydration = FarmlandBlock.getHydration(level, sourcePos);
-        final float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(fromTick));
-        final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(toTick));
-        final long tickDelta = toTick - fromTick;
-
         final ICropBlock cropBlock = (ICropBlock) state.getBlock();
-        final ClimateRange range = cropBlock.getClimateRange();
-        final boolean growing = checkClimate(range, hydration, startTemperature, endTemperature, false);
-        final boolean healthy = growing || checkClimate(range, hydration, startTemperature, endTemperature, true);
+        final float growthLimit = cropBlock.getGrowthLimit(level, pos, state);
+        final Random random = level.getRandom();
 
-        // Nutrients are consumed first, since they are independent of growth or health.
-        // As long as the crop exists it consumes nutrients.
+        // As long as the crop exists it consumes nutrients. Without farmland, there are none to consume.
         final FarmlandBlockEntity farmland = level.getBlockEntity(sourcePos, TFCBlockEntities.FARMLAND.get()).orElse(null);
-        final FarmlandBlockEntity.NutrientType primaryNutrient = cropBlock.getPrimaryNutrient();
-        float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
+        final float[] nutrients = new float[FarmlandBlockEntity.NutrientType.VALUES.length];
         if (farmland != null)
         {
-            nutrientsAvailable = farmland.getNutrient(primaryNutrient);
-            nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(primaryNutrient, nutrientsRequired);
-        }
-
-        // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
-        float totalGrowthDelta = Helpers.uniform(random, 0.9f, 1.1f) * tickDelta * GROWTH_FACTOR + nutrientsConsumed * NUTRIENT_GROWTH_FACTOR;
-        final float initialGrowth = crop.getGrowth();
-        float growth = initialGrowth, expiry = crop.getExpiry(), actualYield = crop.getYield();
-
-        final float growthLimit = cropBlock.getGrowthLimit(level, pos, state);
-        if (totalGrowthDelta > 0 && growing && growth < growthLimit)
-        {
-            // Allocate to growth
-            final float delta = Math.min(totalGrowthDelta, growthLimit - growth);
-
-            growth += delta;
-            totalGrowthDelta -= delta;
-        }
-        if (totalGrowthDelta > 0)
-        {
-            // Allocate remaining growth to expiry
-            final float delta = Math.min(totalGrowthDelta, EXPIRY_LIMIT - expiry);
-
-            expiry += delta;
-            totalGrowthDelta -= delta;
-        }
-
-        // Calculate yield, which depends both on a flat rate per growth, and on the nutrient satisfaction, which is a measure of nutrient consumption over the growth time.
-        final float growthDelta = growth - initialGrowth;
-        final float nutrientSatisfaction;
-        if (growthDelta <= 0 || nutrientsRequired <= 0)
-        {
-            nutrientSatisfaction = 1; // Either condition causes the below formula to result in NaN
-        }
-        else
-        {
-            nutrientSatisfaction = Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+            for (FarmlandBlockEntity.NutrientType type : FarmlandBlockEntity.NutrientType.VALUES)
+            {
+                nutrients[type.ordinal()] = farmland.getNutrient(type);
+            }
         }
 
-        actualYield += growthDelta * Helpers.lerp(nutrientSatisfaction, YIELD_MIN, YIELD_LIMIT);
+        final CropGrowthModel model = CropGrowthModel.create(cropBlock.getClimateRange(), hydration, growthLimit, cropBlock.getPrimaryNutrient(), crop.getGrowth(), crop.getYield(), crop.getExpiry(), nutrients);
 
-        // Check if the crop should've expired.
-        if (expiry >= EXPIRY_LIMIT || !healthy)
+        float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(firstTick));
+        for (long fromTick = firstTick; fromTick < thisTick; )
         {
-            // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
-            cropBlock.die(level, pos, state, growth >= 1);
-            return false;
+            final long toTick = Math.min(fromTick + UPDATE_INTERVAL, thisTick);
+            final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(toTick));
+            if (!model.step(toTick - fromTick, startTemperature, endTemperature, Helpers.uniform(random, 0.9f, 1.1f)))
+            {
+                writeNutrients(farmland, nutrients);
+                cropBlock.die(level, pos, state, model.getGrowth() >= 1);
+                return false;
+            }
+            startTemperature = endTemperature;
+            fromTick = toTick;
         }
 
-        crop.setGrowth(growth);
-        crop.setYield(actualYield);
-        crop.setExpiry(expiry);
+        writeNutrients(farmland, nutrients);
+        crop.setGrowth(model.getGrowth());
+        crop.setYield(model.getYield());
+        crop.setExpiry(model.getExpiry());
         crop.setLastUpdateTick(calendar.getTicks());
 
         return true;
     }
 
-    private static boolean checkClimate(ClimateRange range, int hydration, float firstTemperature, float secondTemperature, boolean allowWiggle)
-    {
-        return range.checkBoth(hydration, firstTemperature, allowWiggle) && range.checkTemperature(secondTemperature, allowWiggle) == ClimateRange.Result.VALID;
-    }
-
     public static boolean useFertilizer(Level level, Player player, InteractionHand hand, BlockPos farmlandPos)
     {
         if (!level.isClientSide())
@@ -168,6 +125,17 @@ public final class CropHelpers
         return false;
     }
 
+    private static void writeNutrients(@Nullable FarmlandBlockEntity farmland, float[] nutrients)
+    {
+        if (farmland != null)
+        {
+            for (FarmlandBlockEntity.NutrientType type : FarmlandBlockEntity.NutrientType.VALUES)
+            {
+                farmland.setNutrient(type, nutrients[type.ordinal()]);
+            }
+        }
+    }
+
     private static void addNutrientParticles(ServerLevel level, BlockPos pos, Fertilizer fertilizer)
     {
         final float n = fertilizer.getNitrogen(), p = fertilizer.getPhosphorus(), k = fertilizer.getPotassium();
@@ -97,7 +97,15 @@ public class PitKilnBlock extends DeviceBlock
     @SuppressWarnings("deprecation")
     public BlockState updateShape(BlockState stateIn, Direction facing, BlockState facingState, LevelAccessor worldIn, BlockPos currentPos, BlockPos facingPos)
     {
-        return !stateIn.canSurvive(worldIn, currentPos) ? Blocks.AIR.defaultBlockState() : super.updateShape(stateIn, facing, facingState, worldIn, currentPos, facingPos);
+        if (!stateIn.canSurvive(worldIn, currentPos))
+        {
+            return Blocks.AIR.defaultBlockState();
+        }
+        if (worldIn.getBlockEntity(currentPos) instanceof PitKilnBlockEntity pitKiln)
+        {
+            pitKiln.onNeighborChanged();
+        }
+        return super.updateShape(stateIn, facing, facingState, worldIn, currentPos, facingPos);
     }
 
     @Override
@@ -33,6 +33,7 @@ import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
+import net.dries007.tfc.common.blockentities.SluiceBlockEntity;
 import net.dries007.tfc.common.blocks.EntityBlockExtension;
 import net.dries007.tfc.common.blocks.ExtendedProperties;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
@@ -122,6 +123,10 @@ public class SluiceBlock extends DeviceBlock implements EntityBlockExtension
         if (state.getValue(UPPER) && entity instanceof ItemEntity item)
         {
             item.setDeltaMovement(0D, 0D, 0D);
+            if (!level.isClientSide && !item.isRemoved() && level.getBlockEntity(pos) instanceof SluiceBlockEntity sluice)
+            {
+                sluice.insertItem(item);
+            }
         }
         super.entityInside(state, level, pos, entity);
     }
@@ -8,6 +8,8 @@ package net.dries007.tfc.common.blocks.plant.fruit;
 
 import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.function.Supplier;
 
 import net.minecraft.core.BlockPos;
@@ -40,6 +42,7 @@ import net.dries007.tfc.common.blocks.soil.HoeOverlayBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.climate.ClimateRanges;
@@ -140,66 +143,54 @@ public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock,
             {
                 // Otherwise, we do a month-by-month evaluation of how the bush should have grown.
                 // We only do this up to a year. Why? Because eventually, it will have become dormant, and any 'progress' during that year would've been lost anyway because it would unconditionally become dormant.
-                long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
-                long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
-                long nextCalendarTick = currentCalendarTick - deltaTicks;
+                final long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
+                final long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
+                final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
 
                 final BlockPos sourcePos = pos.below();
                 final ClimateRange range = climateRange.get();
                 final int hydration = FarmlandBlock.getHydration(level, sourcePos);
+                final LongPredicate validClimateAt = tick -> range.checkBoth(hydration, Climate.getTemperature(level, pos, tick, daysInMonth), false);
 
-                int stage = state.getValue(STAGE);
-
-                BlockPos abovePos = pos.above();
+                final int stage = state.getValue(STAGE);
                 BlockState newState;
-                do
+                if (stage >= 2)
                 {
-                    // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
-                    // Otherwise it will just wait for the next random tick.
-
-                    // Jump forward to nextTick.
-                    // Advance both the stage (randomly, if the previous month was healthy), and lifecycle (if the at-the-time conditions were valid)
-                    nextCalendarTick = Math.min(nextCalendarTick + Calendars.SERVER.getCalendarTicksInMonth(), currentCalendarTick);
-                    if (currentLifecycle.active() && stage < 2)
+                    // The top of a fully grown plant never grows or places blocks, so this is the same lifecycle catch-up as any other seasonal plant
+                    newState = state.setValue(LIFECYCLE, LifecycleCatchUp.simulate(currentLifecycle, currentCalendarTick, deltaTicks, daysInMonth, this::getLifecycleForMonth, validClimateAt).lifecycle());
+                }
+                else
+                {
+                    final BlockPos abovePos = pos.above();
+                    final TrunkGrowth growth = simulateTrunk(stage, currentLifecycle, currentCalendarTick, deltaTicks, daysInMonth, this::getLifecycleForMonth, validClimateAt, level.random, new TrunkColumn()
                     {
-                        BlockPos downPos = pos.below(3);
-                        // increase the stage 1/3 of the time, or always if we realize we're starting to get tall
-                        if (!level.getBlockState(abovePos).is(TFCTags.Blocks.FRUIT_TREE_BRANCH) && (level.random.nextInt(4) == 0 || level.getBlockState(downPos).is(TFCTags.Blocks.FRUIT_TREE_BRANCH)))
+                        @Override
+                        public boolean isBranchAbove()
                         {
-                            stage++;
+                            return level.getBlockState(abovePos).is(TFCTags.Blocks.FRUIT_TREE_BRANCH);
                         }
-                    }
 
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
-                    Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
-                    if (range.checkBoth(hydration, temperatureAtNextTick, false))
-                    {
-                        currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
-                    }
-                    else
-                    {
-                        currentLifecycle = Lifecycle.DORMANT;
-                    }
-                    // we don't allow the trunk blocks to fruit or flower
-                    if (stage < 2 && currentLifecycle.active())
-                    {
-                        currentLifecycle = Lifecycle.HEALTHY;
-                    }
+                        @Override
+                        public boolean isTall()
+                        {
+                            return level.getBlockState(pos.below(3)).is(TFCTags.Blocks.FRUIT_TREE_BRANCH);
+                        }
 
-                    newState = state.setValue(STAGE, stage).setValue(LIFECYCLE, currentLifecycle);
+                        @Override
+                        public boolean canGrowAbove()
+                        {
+                            return level.isEmptyBlock(abovePos) && level.canSeeSky(abovePos);
+                        }
 
-                    // bananas only grow for stages 0 and 1
-                    if (stage < 2 && currentLifecycle.active())
-                    {
-                        if (level.isEmptyBlock(abovePos) && level.canSeeSky(abovePos))
+                        @Override
+                        public void growAbove(int stage, Lifecycle lifecycle, long calendarTick)
                         {
-                            level.setBlockAndUpdate(abovePos, newState);
-                            final long newBushTicks = nextCalendarTick;
-                            level.getBlockEntity(abovePos, TFCBlockEntities.BERRY_BUSH.get()).ifPresent(newBush -> newBush.setLastUpdateTick(newBushTicks));
+                            level.setBlockAndUpdate(abovePos, state.setValue(STAGE, stage).setValue(LIFECYCLE, lifecycle));
+                            level.getBlockEntity(abovePos, TFCBlockEntities.BERRY_BUSH.get()).ifPresent(newBush -> newBush.setLastUpdateTick(calendarTick));
                         }
-                    }
+                    });
+                    newState = state.setValue(STAGE, growth.stage()).setValue(LIFECYCLE, growth.lifecycle());
                 }
-                while (nextCalendarTick < currentCalendarTick);
 
                 if (state != newState)
                 {
@@ -210,6 +201,63 @@ public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock,
         });
     }
 
+    /**
+     * The month-by-month catch-up of a trunk block (stage 0 or 1), which may grow in stage, and place new blocks above itself, each month.
+     *
+     * @param column Access to the blocks around the trunk. The blocks above are only queried once, and again after a block is grown there. The blocks below can't change during the catch-up, so are only queried once.
+     * @return The stage and lifecycle of the trunk block after the catch-up.
+     */
+    static TrunkGrowth simulateTrunk(int stage, Lifecycle lifecycle, long currentCalendarTick, long deltaTicks, int daysInMonth, Function<Month, Lifecycle> lifecycleForMonth, LongPredicate validClimateAt, Random random, TrunkColumn column)
+    {
+        final long ticksInMonth = ICalendar.getCalendarTicksInMonth(daysInMonth);
+
+        boolean isBranchAbove = column.isBranchAbove();
+        final boolean isTall = column.isTall();
+
+        long nextCalendarTick = currentCalendarTick - deltaTicks;
+        do
+        {
+            // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
+            // Otherwise it will just wait for the next random tick.
+
+            // Jump forward to nextTick.
+            // Advance both the stage (randomly, if the previous month was healthy), and lifecycle (if the at-the-time conditions were valid)
+            nextCalendarTick = Math.min(nextCalendarTick + ticksInMonth, currentCalendarTick);
+            if (lifecycle.active() && stage < 2)
+            {
+                // increase the stage 1/3 of the time, or always if we realize we're starting to get tall
+                if (!isBranchAbove && (random.nextInt(4) == 0 || isTall))
+                {
+                    stage++;
+                }
+            }
+
+            final Lifecycle lifecycleAtNextTick = lifecycleForMonth.apply(ICalendar.getMonthOfYear(nextCalendarTick, daysInMonth));
+            if (validClimateAt.test(nextCalendarTick))
+            {
+                lifecycle = lifecycle.advanceTowards(lifecycleAtNextTick);
+            }
+            else
+            {
+                lifecycle = Lifecycle.DORMANT;
+            }
+            // we don't allow the trunk blocks to fruit or flower
+            if (stage < 2 && lifecycle.active())
+            {
+                lifecycle = Lifecycle.HEALTHY;
+            }
+
+            // bananas only grow for stages 0 and 1
+            if (stage < 2 && lifecycle.active() && column.canGrowAbove())
+            {
+                column.growAbove(stage, lifecycle, nextCalendarTick);
+                isBranchAbove = column.isBranchAbove();
+            }
+        }
+        while (nextCalendarTick < currentCalendarTick);
+        return new TrunkGrowth(stage, lifecycle);
+    }
+
     @Override
     public boolean canSurvive(BlockState state, LevelReader level, BlockPos pos)
     {
@@ -223,4 +271,23 @@ public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock,
     {
         return new ItemStack(TFCBlocks.BANANA_SAPLING.get());
     }
+
+    record TrunkGrowth(int stage, Lifecycle lifecycle) {}
+
+    /**
+     * The blocks around a banana trunk, which are read and modified during its catch-up.
+     */
+    interface TrunkColumn
+    {
+        boolean isBranchAbove();
+
+        /**
+         * @return If the block three below is also a branch, in which case the trunk always grows.
+         */
+        boolean isTall();
+
+        boolean canGrowAbove();
+
+        void growAbove(int stage, Lifecycle lifecycle, long calendarTick);
+    }
 }
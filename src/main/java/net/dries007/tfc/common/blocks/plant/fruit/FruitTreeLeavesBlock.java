@@ -36,7 +36,6 @@ import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
 import net.dries007.tfc.common.blocks.wood.ILeavesBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
-import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
 
@@ -81,45 +80,15 @@ public class FruitTreeLeavesBlock extends SeasonalPlantBlock implements IForgeBl
             {
                 // Otherwise, we do a month-by-month evaluation of how the bush should have grown.
                 // We only do this up to a year. Why? Because eventually, it will have become dormant, and any 'progress' during that year would've been lost anyway because it would unconditionally become dormant.
-                long deltaTicks = Math.min(leaves.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
-                long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
-                long nextCalendarTick = currentCalendarTick - deltaTicks;
+                final long deltaTicks = Math.min(leaves.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
+                final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
 
                 final ClimateRange range = climateRange.get();
                 // todo: include root water?
                 final int hydration = (int) Climate.getRainfall(level, pos) / 5;
 
-                int monthsSpentDying = 0;
-                do
-                {
-                    // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
-                    // Otherwise it will just wait for the next random tick.
-
-                    // Jump forward to nextTick.
-                    // Advance the lifecycle (if the at-the-time conditions were valid)
-                    nextCalendarTick = Math.min(nextCalendarTick + Calendars.SERVER.getCalendarTicksInMonth(), currentCalendarTick);
-
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
-                    Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
-                    if (range.checkBoth(hydration, temperatureAtNextTick, false))
-                    {
-                        currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
-                    }
-                    else
-                    {
-                        currentLifecycle = Lifecycle.DORMANT;
-                    }
-
-                    if (lifecycleAtNextTick != Lifecycle.DORMANT && currentLifecycle == Lifecycle.DORMANT)
-                    {
-                        monthsSpentDying++; // consecutive months spent where the conditions were invalid, but they shouldn't've been
-                    }
-                    else
-                    {
-                        monthsSpentDying = 0;
-                    }
-
-                } while (nextCalendarTick < currentCalendarTick);
+                final LifecycleCatchUp.Result result = LifecycleCatchUp.simulate(currentLifecycle, Calendars.SERVER.getCalendarTicks(), deltaTicks, daysInMonth, this::getLifecycleForMonth, tick -> range.checkBoth(hydration, Climate.getTemperature(level, pos, tick, daysInMonth), false));
+                final int monthsSpentDying = result.monthsSpentDying();
 
                 BlockState newState;
 
@@ -130,7 +99,7 @@ public class FruitTreeLeavesBlock extends SeasonalPlantBlock implements IForgeBl
                 }
                 else
                 {
-                    newState = state.setValue(LIFECYCLE, currentLifecycle);
+                    newState = state.setValue(LIFECYCLE, result.lifecycle());
                 }
 
                 // And update the block
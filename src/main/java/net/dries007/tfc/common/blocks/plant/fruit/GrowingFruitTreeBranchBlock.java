@@ -32,6 +32,7 @@ import net.dries007.tfc.common.blocks.EntityBlockExtension;
 import net.dries007.tfc.common.blocks.ExtendedProperties;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
@@ -182,10 +183,12 @@ public class GrowingFruitTreeBranchBlock extends FruitTreeBranchBlock implements
     @SuppressWarnings("deprecation")
     public void randomTick(BlockState state, ServerLevel level, BlockPos pos, Random random)
     {
-        //todo: include root water?
-        final int hydration = (int) (Climate.getRainfall(level, pos) / 5f);
-        final float temp = Climate.getTemperature(level, pos);
-        if (!climateRange.get().checkBoth(hydration, temp, false))
+        final ICalendar calendar = Calendars.get(level);
+        final long day = ICalendar.getTotalDays(calendar.getCalendarTicks());
+        final boolean validClimate = level.getBlockEntity(pos, TFCBlockEntities.TICK_COUNTER.get())
+            .map(counter -> counter.isValidClimateOnDay(day, () -> isValidClimate(level, pos, calendar, day)))
+            .orElseGet(() -> isValidClimate(level, pos, calendar, day));
+        if (!validClimate)
         {
             Helpers.resetCounter(level, pos);
         }
@@ -213,6 +216,15 @@ public class GrowingFruitTreeBranchBlock extends FruitTreeBranchBlock implements
         return ItemStack.EMPTY;
     }
 
+    private boolean isValidClimate(ServerLevel level, BlockPos pos, ICalendar calendar, long day)
+    {
+        //todo: include root water?
+        final int hydration = (int) (Climate.getRainfall(level, pos) / 5f);
+        // Sampled at the sixth hour, where the hourly variation in temperature is zero, so it stands for the whole day
+        final float temp = Climate.getTemperature(level, pos, calendar, day * ICalendar.TICKS_IN_DAY + 6 * ICalendar.TICKS_IN_HOUR);
+        return climateRange.get().checkBoth(hydration, temp, false);
+    }
+
     private void placeGrownFlower(ServerLevel level, BlockPos pos, int stage, int saplings, int cycles)
     {
         level.setBlock(pos, getStateForPlacement(level, pos).setValue(STAGE, stage).setValue(SAPLINGS, saplings), 3);
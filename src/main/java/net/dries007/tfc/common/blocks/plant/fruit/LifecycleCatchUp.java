@@ -0,0 +1,73 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.calendar.Month;
+
+/**
+ * The lifecycle catch-up shared by seasonal plants (berry bushes and fruit tree leaves), which is evaluated one month at a time over at most a year.
+ * This only computes the lifecycle, and counts of active and dying months. Anything that affects the world, or uses randomness, is applied by the caller afterwards, from those counts.
+ */
+public final class LifecycleCatchUp
+{
+    /**
+     * @param lifecycle           The lifecycle of the plant, at the time of the last update.
+     * @param currentCalendarTick The current calendar tick.
+     * @param deltaTicks          The calendar ticks since the last update. This should be capped at a year, as after that any progress would have been lost by the plant becoming dormant anyway.
+     * @param daysInMonth         The calendar days per month.
+     * @param lifecycleForMonth   The expected lifecycle of the plant, for each month.
+     * @param validClimateAt      If the climate at the given calendar tick is valid for the plant. This is queried once per month, at the end of each month long step.
+     */
+    public static Result simulate(Lifecycle lifecycle, long currentCalendarTick, long deltaTicks, int daysInMonth, Function<Month, Lifecycle> lifecycleForMonth, LongPredicate validClimateAt)
+    {
+        final long ticksInMonth = ICalendar.getCalendarTicksInMonth(daysInMonth);
+        long nextCalendarTick = currentCalendarTick - deltaTicks;
+        int activeMonths = 0, monthsSpentDying = 0;
+        do
+        {
+            // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
+            // Jump forward to nextTick, and advance the lifecycle (if the at-the-time conditions were valid)
+            nextCalendarTick = Math.min(nextCalendarTick + ticksInMonth, currentCalendarTick);
+            if (lifecycle.active())
+            {
+                activeMonths++;
+            }
+
+            final Lifecycle lifecycleAtNextTick = lifecycleForMonth.apply(ICalendar.getMonthOfYear(nextCalendarTick, daysInMonth));
+            if (validClimateAt.test(nextCalendarTick))
+            {
+                lifecycle = lifecycle.advanceTowards(lifecycleAtNextTick);
+            }
+            else
+            {
+                lifecycle = Lifecycle.DORMANT;
+            }
+
+            if (lifecycleAtNextTick != Lifecycle.DORMANT && lifecycle == Lifecycle.DORMANT)
+            {
+                monthsSpentDying++; // consecutive months spent where the conditions were invalid, but they shouldn't've been
+            }
+            else
+            {
+                monthsSpentDying = 0;
+            }
+        } while (nextCalendarTick < currentCalendarTick);
+
+        return new Result(lifecycle, activeMonths, monthsSpentDying);
+    }
+
+    /**
+     * @param lifecycle        The lifecycle at the end of the catch-up.
+     * @param activeMonths     The number of months which started with an active lifecycle, in which the plant could grow.
+     * @param monthsSpentDying The number of consecutive months, at the end of the catch-up, in which the plant should have been active but was dormant due to invalid conditions.
+     */
+    public record Result(Lifecycle lifecycle, int activeMonths, int monthsSpentDying) {}
+}
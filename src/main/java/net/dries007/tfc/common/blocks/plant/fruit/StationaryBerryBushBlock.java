@@ -29,7 +29,6 @@ import net.dries007.tfc.common.blocks.soil.FarmlandBlock;
 import net.dries007.tfc.common.blocks.soil.HoeOverlayBlock;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
-import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
 
@@ -92,50 +91,25 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
             {
                 // Otherwise, we do a month-by-month evaluation of how the bush should have grown.
                 // We only do this up to a year. Why? Because eventually, it will have become dormant, and any 'progress' during that year would've been lost anyway because it would unconditionally become dormant.
-                long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
-                long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
-                long nextCalendarTick = currentCalendarTick - deltaTicks;
+                final long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
+                final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
 
                 final BlockPos sourcePos = pos.below();
                 final ClimateRange range = climateRange.get();
                 final int hydration = FarmlandBlock.getHydration(level, sourcePos);
 
-                int stagesGrown = 0, monthsSpentDying = 0;
-                do
-                {
-                    // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
-                    // Otherwise it will just wait for the next random tick.
-
-                    // Jump forward to nextTick.
-                    // Advance both the stage (randomly, if the previous month was healthy), and lifecycle (if the at-the-time conditions were valid)
-                    nextCalendarTick = Math.min(nextCalendarTick + Calendars.SERVER.getCalendarTicksInMonth(), currentCalendarTick);
+                final LifecycleCatchUp.Result result = LifecycleCatchUp.simulate(currentLifecycle, Calendars.SERVER.getCalendarTicks(), deltaTicks, daysInMonth, this::getLifecycleForMonth, tick -> range.checkBoth(hydration, Climate.getTemperature(level, pos, tick, daysInMonth), false));
+                final int monthsSpentDying = result.monthsSpentDying();
 
-                    if (currentLifecycle.active() && level.getRandom().nextInt(3) == 0)
+                // Advance the stage randomly, for each month that was healthy at the start
+                int stagesGrown = 0;
+                for (int i = 0; i < result.activeMonths(); i++)
+                {
+                    if (level.getRandom().nextInt(3) == 0)
                     {
                         stagesGrown++;
                     }
-
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
-                    Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
-                    if (range.checkBoth(hydration, temperatureAtNextTick, false))
-                    {
-                        currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
-                    }
-                    else
-                    {
-                        currentLifecycle = Lifecycle.DORMANT;
-                    }
-
-                    if (lifecycleAtNextTick != Lifecycle.DORMANT && currentLifecycle == Lifecycle.DORMANT)
-                    {
-                        monthsSpentDying++; // consecutive months spent where the conditions were invalid, but they shouldn't've been
-                    }
-                    else
-                    {
-                        monthsSpentDying = 0;
-                    }
-
-                } while (nextCalendarTick < currentCalendarTick);
+                }
 
                 BlockState newState;
 
@@ -148,7 +122,7 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
                 {
                     // It's not dead! Now, perform the actual update over the time taken.
                     newState = state.setValue(STAGE, Math.min(2, state.getValue(STAGE) + stagesGrown))
-                        .setValue(LIFECYCLE, currentLifecycle);
+                        .setValue(LIFECYCLE, result.lifecycle());
 
                     // Finally, possibly, cause a propagation event - this is based on the current time.
                     if (mayPropagate(newState, level, pos))
@@ -124,16 +124,19 @@ public class ConnectedGrassBlock extends Block implements IGrassBlock
         {
             if (level.getMaxLocalRawBrightness(pos.above()) >= 9)
             {
+                // Probe positions are only made immutable if grass actually spreads there, as most probes fail.
+                final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
                 for (int i = 0; i < 4; ++i)
                 {
-                    BlockPos posAt = pos.offset(random.nextInt(3) - 1, random.nextInt(5) - 3, random.nextInt(3) - 1);
-                    BlockState stateAt = level.getBlockState(posAt);
+                    cursor.setWithOffset(pos, random.nextInt(3) - 1, random.nextInt(5) - 3, random.nextInt(3) - 1);
+                    BlockState stateAt = level.getBlockState(cursor);
                     if (stateAt.getBlock() instanceof IDirtBlock dirt)
                     {
                         // Spread grass to others
                         BlockState grassState = dirt.getGrass();
-                        if (canPropagate(grassState, level, posAt))
+                        if (canPropagate(grassState, level, cursor))
                         {
+                            final BlockPos posAt = cursor.immutable();
                             level.setBlockAndUpdate(posAt, updateStateFromNeighbors(level, posAt, grassState));
                         }
                     }
@@ -146,7 +149,12 @@ public class ConnectedGrassBlock extends Block implements IGrassBlock
     @SuppressWarnings("deprecation")
     public void tick(BlockState state, ServerLevel level, BlockPos pos, Random rand)
     {
-        level.setBlock(pos, updateStateFromNeighbors(level, pos, state), 2);
+        // Connection updates are scheduled for every neighbor change, and spreading grass schedules them in bulk, so most of them find nothing has changed.
+        final BlockState newState = updateStateFromNeighbors(level, pos, state);
+        if (newState != state)
+        {
+            level.setBlock(pos, newState, 2);
+        }
     }
 
     @Override
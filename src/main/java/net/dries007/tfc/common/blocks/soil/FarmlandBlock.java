@@ -48,6 +48,9 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.ClimateRange;
+import net.dries007.tfc.util.tracker.HydrationField;
+import net.dries007.tfc.util.tracker.IWorldTracker;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 
 public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock, IForgeBlockExtension, EntityBlockExtension
@@ -118,27 +121,16 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
     private static int findMinCostWater(LevelAccessor level, BlockPos pos)
     {
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
-
-        int minCostWater = 5;
-        for (int dx = -4; dx <= 4; dx++)
+        final HydrationField.WaterSource source = (x, y, z) -> Helpers.isFluid(level.getFluidState(cursor.set(x, y, z)).getType(), TFCTags.Fluids.HYDRATING);
+        if (level instanceof ServerLevel serverLevel)
         {
-            for (int dz = -4; dz <= 4; dz++)
+            final IWorldTracker tracker = serverLevel.getCapability(WorldTrackerCapability.CAPABILITY).orElse(null);
+            if (tracker != null)
             {
-                for (int dy = -1; dy <= 0; dy++)
-                {
-                    final int cost = Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
-                    if (cost < minCostWater && Helpers.isFluid(level.getFluidState(cursor.setWithOffset(pos, dx, dy, dz)).getType(), TFCTags.Fluids.HYDRATING))
-                    {
-                        minCostWater = cost;
-                        if (minCostWater == 1)
-                        {
-                            return 1;
-                        }
-                    }
-                }
+                return tracker.getHydrationField().getCost(source, pos.getX(), pos.getY(), pos.getZ(), serverLevel.getGameTime());
             }
         }
-        return minCostWater;
+        return HydrationField.findMinCostWater(source, pos.getX(), pos.getY(), pos.getZ());
     }
 
     private final ExtendedProperties properties;
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.food;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the nutrition and thirst last sent to a client, so {@link TFCFoodData} only sends an update when either has changed.
+ * A full update is still sent every {@link #RESYNC_INTERVAL_TICKS}, in case the client has diverged, i.e. by predicting eating client side.
+ */
+public final class FoodDataSync
+{
+    public static final int RESYNC_INTERVAL_TICKS = 20 * 10;
+
+    private final float[] lastNutrients = new float[Nutrient.TOTAL];
+    private float lastThirst;
+    private int ticksSinceSync;
+    private boolean dirty = true;
+
+    /**
+     * Called every tick with the current values.
+     *
+     * @return {@code true} if an update should be sent. The values are then recorded as sent.
+     */
+    public boolean update(float[] nutrients, float thirst)
+    {
+        ticksSinceSync++;
+        if (dirty || ticksSinceSync >= RESYNC_INTERVAL_TICKS || thirst != lastThirst || !Arrays.equals(nutrients, lastNutrients))
+        {
+            System.arraycopy(nutrients, 0, lastNutrients, 0, lastNutrients.length);
+            lastThirst = thirst;
+            ticksSinceSync = 0;
+            dirty = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Forces an update to be sent on the next tick, i.e. when the client has replaced its food data, and lost the last sent values.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+}
@@ -7,7 +7,7 @@
 package net.dries007.tfc.common.capabilities.food;
 
 import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.function.IntSupplier;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -21,30 +21,48 @@ import net.dries007.tfc.config.TFCConfig;
  * This acts as a FIFO queue for the last N foods eaten.
  * It has capability to manage the total hunger and averages over that value
  *
+ * The records are kept in a ring buffer, newest first, along with running totals of their hunger and hunger-weighted nutrients. Eating only needs to adjust the totals for the added and removed records, rather than summing every record again.
+ *
  * This only executes logic on server side, on client side it simply sets the lastAverageNutrients
  */
 public class NutritionData implements INBTSerializable<CompoundTag>
 {
-    private final LinkedList<FoodRecord> records;
+    private final IntSupplier hungerWindowSupplier;
     private final float defaultNutritionValue, defaultDairyNutritionValue;
     private final float[] nutrients;
     private float averageNutrients;
     private int hungerWindow;
 
+    // Ring buffer of records, newest at head, and the totals of every record currently in it
+    private FoodRecord[] records;
+    private int head, size;
+    private long totalHunger;
+    private final double[] totalWeightedNutrients;
+
     public NutritionData(float defaultNutritionValue, float defaultDairyNutritionValue)
     {
-        this.records = new LinkedList<>();
+        this(defaultNutritionValue, defaultDairyNutritionValue, () -> TFCConfig.SERVER.nutritionRotationHungerWindow.get());
+    }
+
+    NutritionData(float defaultNutritionValue, float defaultDairyNutritionValue, IntSupplier hungerWindowSupplier)
+    {
+        this.hungerWindowSupplier = hungerWindowSupplier;
         this.defaultNutritionValue = defaultNutritionValue;
         this.defaultDairyNutritionValue = defaultDairyNutritionValue;
         this.nutrients = new float[5];
         this.hungerWindow = 0;
 
+        this.records = new FoodRecord[16];
+        this.totalWeightedNutrients = new double[5];
+
         calculateNutrition();
     }
 
     public void reset()
     {
-        this.records.clear();
+        Arrays.fill(records, null);
+        head = size = 0;
+        recalculateTotals();
         calculateNutrition();
     }
 
@@ -77,7 +95,14 @@ public class NutritionData implements INBTSerializable<CompoundTag>
 
     public void addNutrients(FoodRecord data)
     {
-        records.addFirst(data);
+        if (size == records.length)
+        {
+            grow();
+        }
+        head = (head - 1) & (records.length - 1);
+        records[head] = data;
+        size++;
+        addToTotals(data, 1);
         calculateNutrition();
     }
 
@@ -86,9 +111,9 @@ public class NutritionData implements INBTSerializable<CompoundTag>
     {
         CompoundTag nbt = new CompoundTag();
         ListTag recordsNbt = new ListTag();
-        for (FoodRecord data : records)
+        for (int i = 0; i < size; i++)
         {
-            recordsNbt.add(data.write());
+            recordsNbt.add(get(i).write());
         }
         nbt.put("records", recordsNbt);
         return nbt;
@@ -97,45 +122,51 @@ public class NutritionData implements INBTSerializable<CompoundTag>
     @Override
     public void deserializeNBT(CompoundTag nbt)
     {
-        records.clear();
         ListTag recordsNbt = nbt.getList("records", Tag.TAG_COMPOUND);
-        for (int i = 0; i < recordsNbt.size(); i++)
+        records = new FoodRecord[Math.max(16, Integer.highestOneBit(Math.max(1, recordsNbt.size())) << 1)];
+        head = 0;
+        size = recordsNbt.size();
+        for (int i = 0; i < size; i++)
         {
-            records.add(new FoodRecord(recordsNbt.getCompound(i)));
+            records[i] = new FoodRecord(recordsNbt.getCompound(i));
         }
+        recalculateTotals();
         calculateNutrition();
     }
 
     private void calculateNutrition()
     {
-        // Reset
-        Arrays.fill(this.nutrients, 0);
-        int runningHungerTotal = 0;
-
         // Reload from config
-        hungerWindow = TFCConfig.SERVER.nutritionRotationHungerWindow.get();
-        for (int i = 0; i < records.size(); i++)
+        final int window = hungerWindowSupplier.getAsInt();
+        if (window != hungerWindow)
         {
-            FoodRecord record = records.get(i);
-            int nextHunger = record.getHunger() + runningHungerTotal;
-            if (nextHunger < this.hungerWindow)
-            {
-                // Add weighted nutrition, keep moving
-                updateAllNutrients(nutrients, j -> nutrients[j] + record.getNutrient(j) * record.getHunger());
-                runningHungerTotal = nextHunger;
-            }
-            else
-            {
-                // Calculate overshoot, weight appropriately, and exit
-                float actualHunger = hungerWindow - runningHungerTotal;
-                updateAllNutrients(nutrients, j -> nutrients[j] + record.getNutrient(j) * actualHunger);
+            // Recalculate from scratch, as this only occurs on config changes, and prevents any error accumulating in the totals
+            hungerWindow = window;
+            recalculateTotals();
+        }
 
-                // Remove any excess elements, this has the side effect of exiting the loop
-                while (records.size() > i + 1)
-                {
-                    records.remove(i + 1);
-                }
-            }
+        // Remove any excess records. The oldest record is only kept if without it, the total hunger would be less than the hunger window.
+        while (size > 1 && totalHunger - get(size - 1).getHunger() >= hungerWindow)
+        {
+            final FoodRecord oldest = get(size - 1);
+            records[(head + size - 1) & (records.length - 1)] = null;
+            size--;
+            addToTotals(oldest, -1);
+        }
+
+        int runningHungerTotal;
+        if (size > 0 && totalHunger >= hungerWindow)
+        {
+            // The oldest record overshoots the hunger window, so it is only weighted by the part of it that fits
+            final FoodRecord oldest = get(size - 1);
+            runningHungerTotal = (int) (totalHunger - oldest.getHunger());
+            final float actualHunger = hungerWindow - runningHungerTotal;
+            updateAllNutrients(nutrients, j -> (float) (totalWeightedNutrients[j] - (double) oldest.getNutrient(j) * oldest.getHunger()) + oldest.getNutrient(j) * actualHunger);
+        }
+        else
+        {
+            runningHungerTotal = (int) totalHunger;
+            updateAllNutrients(nutrients, j -> (float) totalWeightedNutrients[j]);
         }
 
         // Average over hunger window, using default value if beyond the hunger window
@@ -159,6 +190,44 @@ public class NutritionData implements INBTSerializable<CompoundTag>
         updateAverageNutrients(); // Also calculate overall average
     }
 
+    /**
+     * @return The record at {@code index}, where zero is the newest record.
+     */
+    private FoodRecord get(int index)
+    {
+        return records[(head + index) & (records.length - 1)];
+    }
+
+    private void grow()
+    {
+        final FoodRecord[] grown = new FoodRecord[records.length << 1];
+        for (int i = 0; i < size; i++)
+        {
+            grown[i] = get(i);
+        }
+        records = grown;
+        head = 0;
+    }
+
+    private void addToTotals(FoodRecord record, int sign)
+    {
+        totalHunger += (long) sign * record.getHunger();
+        for (int j = 0; j < totalWeightedNutrients.length; j++)
+        {
+            totalWeightedNutrients[j] += (double) sign * record.getNutrient(j) * record.getHunger();
+        }
+    }
+
+    private void recalculateTotals()
+    {
+        totalHunger = 0;
+        Arrays.fill(totalWeightedNutrients, 0);
+        for (int i = 0; i < size; i++)
+        {
+            addToTotals(get(i), 1);
+        }
+    }
+
     private void updateAverageNutrients()
     {
         averageNutrients = 0;
@@ -183,4 +252,4 @@ public class NutritionData implements INBTSerializable<CompoundTag>
     {
         float apply(int i);
     }
-}
\ No newline at end of file
+}
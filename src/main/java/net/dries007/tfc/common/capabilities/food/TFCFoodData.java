@@ -74,6 +74,11 @@ public class TFCFoodData extends FoodData
         // Send the update regardless so the client can perform the same logic
         if (player instanceof ServerPlayer serverPlayer)
         {
+            // The client will replace its food data, so it needs a full update again
+            if (player.getFoodData() instanceof TFCFoodData data)
+            {
+                data.sync.markDirty();
+            }
             PacketHandler.send(PacketDistributor.PLAYER.with(() -> serverPlayer), new FoodDataReplacePacket());
         }
     }
@@ -81,6 +86,7 @@ public class TFCFoodData extends FoodData
     private final Player sourcePlayer;
     private final FoodData delegate; // We keep this here to do normal vanilla tracking (rather than using super). This is also friendlier to other mods if they replace this
     private final NutritionData nutritionData; // Separate handler for nutrition, because it's a bit complex
+    private final FoodDataSync sync; // What was last sent to the client
     private long lastDrinkTick;
     private float thirst;
 
@@ -89,6 +95,7 @@ public class TFCFoodData extends FoodData
         this.sourcePlayer = sourcePlayer;
         this.delegate = delegate;
         this.nutritionData = new NutritionData(0.5f, 0.0f);
+        this.sync = new FoodDataSync();
         this.thirst = MAX_THIRST;
     }
 
@@ -199,7 +206,8 @@ public class TFCFoodData extends FoodData
         }
 
         // Since this is only called server side, and vanilla has a custom packet for this stuff, we need our own
-        if (player instanceof ServerPlayer serverPlayer)
+        // Only sent when something has changed, as most ticks nothing will have
+        if (player instanceof ServerPlayer serverPlayer && sync.update(nutritionData.getNutrients(), thirst))
         {
             PacketHandler.send(PacketDistributor.PLAYER.with(() -> serverPlayer), new FoodDataUpdatePacket(nutritionData.getNutrients(), thirst));
         }
@@ -14,12 +14,14 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Fuel;
+import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
@@ -133,7 +135,19 @@ public final class HeatCapability
         {
             return temp;
         }
-        final float newTemp = temp - heatCapacity * (float) (ticksSinceUpdate * TFCConfig.SERVER.heatingModifier.get());
+        return adjustTemp(temp, heatCapacity, ticksSinceUpdate, TFCConfig.SERVER.heatingModifier.get());
+    }
+
+    /**
+     * As {@link #adjustTemp(float, float, long)}, but with the heating modifier already read from the config.
+     */
+    public static float adjustTemp(float temp, float heatCapacity, long ticksSinceUpdate, double heatingModifier)
+    {
+        if (ticksSinceUpdate <= 0)
+        {
+            return temp;
+        }
+        final float newTemp = temp - heatCapacity * (float) (ticksSinceUpdate * heatingModifier);
         return newTemp < 0 ? 0 : newTemp;
     }
 
@@ -158,6 +172,51 @@ public final class HeatCapability
         instance.setTemperature(temp);
     }
 
+    /**
+     * Heats every item in a range of slots of a device, for one tick. This is the common heating loop of all heat providing devices (forges, crucibles, firepits, etc.)
+     * The heating modifier and the current tick are only read once for the whole pass, and items using the default {@link HeatHandler} skip the capability and calendar lookups entirely.
+     *
+     * @param inventory         The device inventory
+     * @param slotStart         Index of the first slot to heat
+     * @param slotEnd           Index of the last slot to heat, inclusive
+     * @param deviceTemperature The temperature of the device. Items will not be heated above this.
+     * @param modifier          The heating modifier, see {@link #addTemp(IHeat, float, float)}
+     * @param onlyIfCooler      If {@code true}, items which are already at or above the device temperature are left alone, rather than being clamped to it.
+     * @param callback          Called for each slot with an item that can be heated, after it has been heated. This may modify the slot.
+     */
+    public static void heatSlots(IItemHandler inventory, int slotStart, int slotEnd, float deviceTemperature, float modifier, boolean onlyIfCooler, HeatedSlotCallback callback)
+    {
+        final double heatingModifier = TFCConfig.SERVER.heatingModifier.get();
+        final long tick = Calendars.SERVER.getTicks();
+        for (int slot = slotStart; slot <= slotEnd; slot++)
+        {
+            final ItemStack stack = inventory.getStackInSlot(slot);
+            if (stack.isEmpty())
+            {
+                continue;
+            }
+
+            final IHeat heat = stack.getCapability(CAPABILITY).orElse(null);
+            if (heat == null)
+            {
+                continue;
+            }
+
+            final float before = heat instanceof HeatHandler handler ? handler.getTemperature(tick, heatingModifier) : heat.getTemperature();
+            float after = before;
+            if (!onlyIfCooler || before < deviceTemperature)
+            {
+                after = before + modifier * heat.getHeatCapacity() * (float) heatingModifier;
+                if (after > deviceTemperature)
+                {
+                    after = deviceTemperature;
+                }
+                heat.setTemperature(after);
+            }
+            callback.accept(slot, stack, heat, before, after);
+        }
+    }
+
     /**
      * Common logic for block entities to consume fuel during larger time skips.
      *
@@ -211,4 +270,14 @@ public final class HeatCapability
     }
 
     public record Remainder(int burnTicks, float burnTemperature, long ticks) {}
+
+    @FunctionalInterface
+    public interface HeatedSlotCallback
+    {
+        /**
+         * @param before The temperature of the item before heating
+         * @param after  The temperature of the item after heating
+         */
+        void accept(int slot, ItemStack stack, IHeat heat, float before, float after);
+    }
 }
\ No newline at end of file
@@ -64,6 +64,16 @@ public class HeatHandler implements ICapabilitySerializable<CompoundTag>, IHeat,
         return HeatCapability.adjustTemp(temperature, heatCapacity, Calendars.get(isClientSide).getTicks() - lastUpdateTick);
     }
 
+    /**
+     * As {@link #getTemperature()}, but with the current server tick and heating modifier supplied by the caller, for use when heating many items at once.
+     *
+     * @see HeatCapability#heatSlots
+     */
+    public float getTemperature(long tick, double heatingModifier)
+    {
+        return HeatCapability.adjustTemp(temperature, heatCapacity, tick - lastUpdateTick, heatingModifier);
+    }
+
     /**
      * Update the temperature, and save the timestamp of when it was updated
      *
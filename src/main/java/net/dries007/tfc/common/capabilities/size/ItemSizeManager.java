@@ -12,6 +12,7 @@ import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import net.minecraft.ChatFormatting;
+import net.minecraft.core.Registry;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TextComponent;
 import net.minecraft.world.item.*;
@@ -31,6 +32,13 @@ public final class ItemSizeManager
     private static final Logger LOGGER = LogManager.getLogger();
     private static final List<Item> MODIFIABLE_ITEMS = new ArrayList<>();
 
+    /**
+     * Resolved sizes, indexed by item id, for items whose size can't depend on the stack. This is queried very frequently (slot checks, stack size limits, inventory weight), so avoids searching definitions each time.
+     * Entries are filled lazily, and the whole table is replaced on reload. {@link #STACK_DEPENDENT} marks items which must always be resolved per stack.
+     */
+    private static final IItemSize STACK_DEPENDENT = new ItemSize(Size.NORMAL, Weight.MEDIUM); // Distinct from the instances returned by ItemSize.of()
+    private static volatile IItemSize[] sizesById = new IItemSize[0];
+
     @SuppressWarnings("deprecation")
     public static void setupItemStackSizeOverrides()
     {
@@ -61,6 +69,34 @@ public final class ItemSizeManager
      * @return an instance describing the size and weight of a given item stack.
      */
     public static IItemSize get(ItemStack stack)
+    {
+        final Item item = stack.getItem();
+        final IItemSize[] sizes = sizesById;
+        final int id = Item.getId(item);
+        if (id >= 0 && id < sizes.length)
+        {
+            final IItemSize size = sizes[id];
+            if (size == null)
+            {
+                // Not yet resolved. Concurrent resolution on both logical sides will compute, and store, the same value.
+                if (isStackDependent(item))
+                {
+                    sizes[id] = STACK_DEPENDENT;
+                    return compute(stack);
+                }
+                final IItemSize computed = compute(stack);
+                sizes[id] = computed;
+                return computed;
+            }
+            if (size != STACK_DEPENDENT)
+            {
+                return size;
+            }
+        }
+        return compute(stack);
+    }
+
+    private static IItemSize compute(ItemStack stack)
     {
         // If the item (or, a block) defines itself as an IItemSize, we use that first
         final Item item = stack.getItem();
@@ -101,9 +137,37 @@ public final class ItemSizeManager
         }
     }
 
+    /**
+     * Items which provide their own size are resolved before any definitions, so only definitions which match on more than the item can make the result depend on the stack.
+     */
+    private static boolean isStackDependent(Item item)
+    {
+        if (item instanceof IItemSize || (item instanceof BlockItem block && block.getBlock() instanceof IItemSize))
+        {
+            return false;
+        }
+        for (ItemSizeDefinition def : CACHE.getAll(item))
+        {
+            if (!def.matchesItemOnly())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called when tags are reloaded, as definitions using tag ingredients may now match different items.
+     */
+    public static void invalidateSizes()
+    {
+        sizesById = new IItemSize[Registry.ITEM.size()];
+    }
+
     private static void reload()
     {
         CACHE.reload(MANAGER.getValues());
+        invalidateSizes();
 
         // Edit item stack sizes for all editable items in the game (that we can find)
         // Do this once, here, for all items, rather than individually in AttachCapabilitiesEvent handlers
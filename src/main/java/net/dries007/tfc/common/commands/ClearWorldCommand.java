@@ -15,6 +15,7 @@ import java.util.stream.Stream;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.Registry;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.server.MinecraftServer;
@@ -23,6 +24,8 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
 import net.minecraftforge.registries.RegistryObject;
@@ -64,23 +67,58 @@ public final class ClearWorldCommand
 
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         final Predicate<BlockState> predicate = preset.make(source.getServer());
-        final int minY = level.getMinBuildHeight();
+        final Predicate<BlockState> removable = state -> !state.isAir() && predicate.test(state);
+
+        final int minX = center.getX() - radius, maxX = center.getX() + radius;
+        final int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+        final int[] heights = new int[16 * 16];
 
         int blocksRemoved = 0;
 
-        for (int x = -radius; x <= radius; x++)
+        // Iterate by chunk, so sections which contain nothing removable (by their palette) can be skipped entirely
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
         {
-            for (int z = -radius; z <= radius; z++)
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
             {
-                final int height = level.getHeight(Heightmap.Types.WORLD_SURFACE, center.getX() + x, center.getZ() + z);
-                for (int y = minY; y < height; y++)
+                final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                final int startX = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), endX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+                final int startZ = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), endZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+
+                // Only blocks below the surface (at the time this chunk is reached) are removed
+                int maxHeight = level.getMinBuildHeight();
+                for (int x = startX; x <= endX; x++)
                 {
-                    mutablePos.set(center).move(x, 0, z).setY(y);
-                    BlockState state = level.getBlockState(mutablePos);
-                    if (!state.isAir() && predicate.test(state))
+                    for (int z = startZ; z <= endZ; z++)
+                    {
+                        final int height = chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z) + 1;
+                        heights[((x & 15) << 4) | (z & 15)] = height;
+                        maxHeight = Math.max(maxHeight, height);
+                    }
+                }
+
+                final LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++)
+                {
+                    final LevelChunkSection section = sections[sectionIndex];
+                    final int sectionMinY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+                    if (sectionMinY >= maxHeight || !section.getStates().maybeHas(removable))
+                    {
+                        continue;
+                    }
+                    for (int x = startX; x <= endX; x++)
                     {
-                        level.setBlock(mutablePos, air, 2 | 16);
-                        blocksRemoved++;
+                        for (int z = startZ; z <= endZ; z++)
+                        {
+                            final int height = Math.min(heights[((x & 15) << 4) | (z & 15)], sectionMinY + 16);
+                            for (int y = sectionMinY; y < height; y++)
+                            {
+                                if (removable.test(section.getBlockState(x & 15, y & 15, z & 15)))
+                                {
+                                    level.setBlock(mutablePos.set(x, y, z), air, 2 | 16);
+                                    blocksRemoved++;
+                                }
+                            }
+                        }
                     }
                 }
             }
@@ -6,15 +6,23 @@
 
 package net.dries007.tfc.common.commands;
 
+import java.util.Set;
+import java.util.function.Predicate;
+
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.blocks.BlockInput;
 import net.minecraft.commands.arguments.blocks.BlockStateArgument;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.TranslatableComponent;
-import net.minecraft.world.level.Level;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.pattern.BlockInWorld;
-import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.block.state.properties.Property;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
@@ -38,22 +46,49 @@ public final class CountBlockCommand
 
     private static int countBlock(CommandSourceStack source, int radius, BlockInput block)
     {
-        final Level level = source.getLevel();
+        final ServerLevel level = source.getLevel();
         final BlockPos center = new BlockPos(source.getPosition());
+        final Predicate<BlockState> predicate = matches(block);
+        final boolean testBlockEntities = block.getState().hasBlockEntity(); // Only these can have a tag, which needs to be tested against the block entity in the world
 
-        final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        final int minX = center.getX() - radius, maxX = center.getX() + radius;
+        final int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
 
         int found = 0;
-        for (int x = -radius; x <= radius; x++)
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
         {
-            for (int z = -radius; z <= radius; z++)
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
             {
-                for (int y = level.getMinBuildHeight(); y < level.getMaxBuildHeight(); y++)
+                // Only loaded chunks are counted
+                final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null)
                 {
-                    mutablePos.set(center).move(x, 0, z).setY(y);
-                    if (block.test(new BlockInWorld(level, mutablePos, false)))
+                    continue;
+                }
+
+                final int startX = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), endX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+                final int startZ = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), endZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+                final LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++)
+                {
+                    final LevelChunkSection section = sections[sectionIndex];
+                    if (testBlockEntities)
                     {
-                        found++;
+                        if (section.getStates().maybeHas(predicate))
+                        {
+                            final int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+                            for (BlockPos pos : BlockPos.betweenClosed(startX, minY, startZ, endX, minY + 15, endZ))
+                            {
+                                if (block.test(new BlockInWorld(level, pos, false)))
+                                {
+                                    found++;
+                                }
+                            }
+                        }
+                    }
+                    else
+                    {
+                        found += countInSection(section, predicate, startX & 15, endX & 15, startZ & 15, endZ & 15);
                     }
                 }
             }
@@ -61,4 +96,67 @@ public final class CountBlockCommand
         source.sendSuccess(new TranslatableComponent(DONE, found, block.getState().getBlock().getRegistryName()), true);
         return Command.SINGLE_SUCCESS;
     }
+
+    /**
+     * Counts the states in a section matching {@code predicate}, within the given (inclusive) local x and z bounds. Sections whose palette cannot contain a match are skipped, and sections which are counted in full are counted by palette entry.
+     */
+    static int countInSection(LevelChunkSection section, Predicate<BlockState> predicate, int minX, int maxX, int minZ, int maxZ)
+    {
+        final PalettedContainer<BlockState> states = section.getStates();
+        if (!states.maybeHas(predicate))
+        {
+            return 0;
+        }
+
+        final int[] found = {0};
+        if (minX == 0 && maxX == 15 && minZ == 0 && maxZ == 15)
+        {
+            states.count((state, count) -> {
+                if (predicate.test(state))
+                {
+                    found[0] += count;
+                }
+            });
+        }
+        else
+        {
+            for (int x = minX; x <= maxX; x++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    for (int y = 0; y < 16; y++)
+                    {
+                        if (predicate.test(states.get(x, y, z)))
+                        {
+                            found[0]++;
+                        }
+                    }
+                }
+            }
+        }
+        return found[0];
+    }
+
+    /**
+     * The same test as {@link BlockInput#test(BlockInWorld)}, but only for the state, excluding any block entity tag.
+     */
+    static Predicate<BlockState> matches(BlockInput block)
+    {
+        final BlockState target = block.getState();
+        final Set<Property<?>> properties = block.getDefinedProperties();
+        return state -> {
+            if (!state.is(target.getBlock()))
+            {
+                return false;
+            }
+            for (Property<?> property : properties)
+            {
+                if (state.getValue(property) != target.getValue(property))
+                {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
 }
@@ -20,6 +20,7 @@ import net.dries007.tfc.common.entities.aquatic.*;
 import net.dries007.tfc.common.entities.predator.Predator;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.placement.ClimatePlacement;
 
 public class Faunas
 {
@@ -87,19 +88,21 @@ public class Faunas
                 return false;
             }
 
-            if (mob instanceof AquaticMob aquaticMob && !aquaticMob.canSpawnIn(level.getFluidState(pos).getType()))
+            final int seaLevel = level.getLevel().getChunkSource().getGenerator().getSeaLevel();
+            if (fauna.getDistanceBelowSeaLevel() != -1 && pos.getY() > (seaLevel - fauna.getDistanceBelowSeaLevel()))
             {
                 return false;
             }
 
-            final int seaLevel = level.getLevel().getChunkSource().getGenerator().getSeaLevel();
-            if (fauna.getDistanceBelowSeaLevel() != -1 && pos.getY() > (seaLevel - fauna.getDistanceBelowSeaLevel()))
+            // Climate is checked before any block or fluid states, as it is the most common reason to fail, and the chunk wide check rejects most chunks without interpolating
+            final ChunkData data = ChunkData.get(level, pos);
+            final ClimatePlacement climate = fauna.getClimate();
+            if (!climate.isValidAnywhere(data) || !climate.isValid(data, pos, rand))
             {
                 return false;
             }
 
-            final ChunkData data = ChunkData.get(level, pos);
-            if (!fauna.getClimate().isValid(data, pos, rand))
+            if (mob instanceof AquaticMob aquaticMob && !aquaticMob.canSpawnIn(level.getFluidState(pos).getType()))
             {
                 return false;
             }
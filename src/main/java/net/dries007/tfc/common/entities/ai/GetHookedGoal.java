@@ -6,8 +6,6 @@
 
 package net.dries007.tfc.common.entities.ai;
 
-import java.util.List;
-
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -16,6 +14,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.goal.MoveToBlockGoal;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.FishingHook;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.phys.AABB;
@@ -66,12 +65,16 @@ public class GetHookedGoal extends MoveToBlockGoal
     @Override
     protected boolean findNearestBlock()
     {
-        List<TFCFishingHook> entities = mob.level.getEntitiesOfClass(TFCFishingHook.class, new AABB(mob.blockPosition().offset(-16, -16, -16), mob.blockPosition().offset(16, 16, 16)), hook -> !hook.isRemoved());
-        if (!entities.isEmpty())
+        // A hook is always referenced by its owning player, so searching the (few) players is much cheaper than searching all entities nearby, for every fish
+        final AABB area = new AABB(mob.blockPosition().offset(-16, -16, -16), mob.blockPosition().offset(16, 16, 16));
+        for (Player player : mob.level.players())
         {
-            hook = entities.get(0);
-            blockPos = hook.blockPosition();
-            return true;
+            if (player.fishing instanceof TFCFishingHook fishingHook && !fishingHook.isRemoved() && area.intersects(fishingHook.getBoundingBox()))
+            {
+                hook = fishingHook;
+                blockPos = fishingHook.blockPosition();
+                return true;
+            }
         }
         return false;
     }
@@ -6,17 +6,25 @@
 
 package net.dries007.tfc.common.entities.ai;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.goal.AvoidEntityGoal;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.ai.util.DefaultRandomPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 public class TFCAvoidEntityGoal<T extends LivingEntity> extends AvoidEntityGoal<T>
 {
+    private static final int MAX_SEARCH_COOLDOWN = 4;
+
     private final TargetingConditions avoidEntityTargeting;
+    private int searchCooldown;
 
     public TFCAvoidEntityGoal(PathfinderMob mob, Class<T> avoidClass, float dist, double farSpeed, double nearSpeed)
     {
@@ -26,9 +34,25 @@ public class TFCAvoidEntityGoal<T extends LivingEntity> extends AvoidEntityGoal<
 
     @Override
     public boolean canUse()
+    {
+        // After a failed search, wait a few (random) ticks before searching again, so large groups of mobs spread their searches out
+        if (searchCooldown > 0)
+        {
+            searchCooldown--;
+            return false;
+        }
+        if (!findEntityToAvoid())
+        {
+            searchCooldown = mob.getRandom().nextInt(MAX_SEARCH_COOLDOWN + 1);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean findEntityToAvoid()
     {
         // we copy over this method completely to avoid doubling the getNearestEntity call
-        toAvoid = mob.level.getNearestEntity(mob.level.getEntitiesOfClass(avoidClass, mob.getBoundingBox().inflate(maxDist, 3.0D, maxDist), (p_148078_) -> true), avoidEntityTargeting, mob, mob.getX(), mob.getY(), mob.getZ());
+        toAvoid = mob.level.getNearestEntity(getCandidates(mob.getBoundingBox().inflate(maxDist, 3.0D, maxDist)), avoidEntityTargeting, mob, mob.getX(), mob.getY(), mob.getZ());
         if (toAvoid == null)
         {
             return false;
@@ -53,4 +77,24 @@ public class TFCAvoidEntityGoal<T extends LivingEntity> extends AvoidEntityGoal<
             }
         }
     }
+
+    /**
+     * Players are by far the most common entity to avoid, and there are only a few of them per level, so they are filtered from the level's player list, rather than searching every nearby entity.
+     */
+    private List<? extends T> getCandidates(AABB area)
+    {
+        if (avoidClass == Player.class)
+        {
+            final List<T> candidates = new ArrayList<>();
+            for (Player player : mob.level.players())
+            {
+                if (area.intersects(player.getBoundingBox()))
+                {
+                    candidates.add(avoidClass.cast(player));
+                }
+            }
+            return candidates;
+        }
+        return mob.level.getEntitiesOfClass(avoidClass, area, (p_148078_) -> true);
+    }
 }
@@ -12,6 +12,7 @@ import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Registry;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -38,14 +39,16 @@ import net.minecraftforge.fluids.capability.IFluidHandlerItem;
 import net.minecraftforge.fluids.capability.wrappers.FluidBucketWrapper;
 import net.minecraftforge.items.CapabilityItemHandler;
 
-import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.mixin.accessor.FlowingFluidAccessor;
 import net.dries007.tfc.util.Helpers;
 
 public final class FluidHelpers
 {
+    private static final byte MIXABLE_UNKNOWN = 0, MIXABLE_FALSE = 1, MIXABLE_TRUE = 2;
+
+    private static volatile byte[] mixableFluidsById = new byte[0];
+
     /**
      * Transfer an amount up to and inclusive of {@code amount} between two fluid handlers.
      */
@@ -271,7 +274,34 @@ public final class FluidHelpers
      */
     public static boolean canMixFluids(Fluid fluid)
     {
-        return fluid instanceof FlowingFluid && Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE);
+        if (!(fluid instanceof FlowingFluid))
+        {
+            return false;
+        }
+
+        // This is called for every flowing fluid update, and when rendering every fluid face, so the tag check is memoized by fluid id
+        // Writes from different threads may race, but they will always write the same value, so no synchronization is needed
+        final byte[] table = mixableFluidsById;
+        final int id = Registry.FLUID.getId(fluid);
+        if (id < 0 || id >= table.length)
+        {
+            return Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE);
+        }
+        byte mixable = table[id];
+        if (mixable == MIXABLE_UNKNOWN)
+        {
+            mixable = Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE) ? MIXABLE_TRUE : MIXABLE_FALSE;
+            table[id] = mixable;
+        }
+        return mixable == MIXABLE_TRUE;
+    }
+
+    /**
+     * Clears the memoized results of {@link #canMixFluids(Fluid)}. Called when tags are reloaded, on either side.
+     */
+    public static void invalidateMixableFluids()
+    {
+        mixableFluidsById = new byte[Registry.FLUID.size()];
     }
 
     /**
@@ -292,7 +322,9 @@ public final class FluidHelpers
         FlowingFluid maxAdjacentFluid = self;
 
         int adjacentSourceBlocks = 0; // How many adjacent source blocks that could convert this into a source block
-        Object2IntArrayMap<FlowingFluid> adjacentSourceBlocksByFluid = new Object2IntArrayMap<>(2);
+        int adjacentSourceFluidTypes = 0; // How many distinct fluids are in the below arrays, in the order they were first seen
+        FlowingFluid[] adjacentSourceFluids = null; // Allocated only once a source is found, as most flowing blocks have none adjacent
+        int[] adjacentSourceBlocksByFluid = null;
 
         for (Direction direction : Direction.Plane.HORIZONTAL)
         {
@@ -306,8 +338,18 @@ public final class FluidHelpers
             {
                 if (offsetFluid.isSource() && ForgeEventFactory.canCreateFluidSource(worldIn, offsetPos, offsetState, canConvertToSource))
                 {
+                    if (adjacentSourceFluids == null)
+                    {
+                        adjacentSourceFluids = new FlowingFluid[4];
+                        adjacentSourceBlocksByFluid = new int[4];
+                    }
+                    final int index = indexOfOrAdd(adjacentSourceFluids, adjacentSourceFluidTypes, (FlowingFluid) offsetFluid.getType());
+                    if (index == adjacentSourceFluidTypes)
+                    {
+                        adjacentSourceFluidTypes++;
+                    }
                     adjacentSourceBlocks++;
-                    adjacentSourceBlocksByFluid.mergeInt((FlowingFluid) offsetFluid.getType(), 1, Integer::sum);
+                    adjacentSourceBlocksByFluid[index]++;
                 }
                 // Also record the maximum adjacent fluid, breaking ties with the current fluid
                 if (offsetFluid.getAmount() > maxAdjacentFluidAmount || (offsetFluid.getAmount() == maxAdjacentFluidAmount && self.isSame(offsetFluid.getType())))
@@ -325,7 +367,8 @@ public final class FluidHelpers
             BlockState belowState = worldIn.getBlockState(pos.below());
             FluidState belowFluid = belowState.getFluidState();
 
-            if (belowFluid.isSource() && belowFluid.getType() instanceof FlowingFluid && adjacentSourceBlocksByFluid.getInt(belowFluid.getType()) >= 2)
+            final int belowIndex = indexOf(adjacentSourceFluids, adjacentSourceFluidTypes, belowFluid.getType());
+            if (belowFluid.isSource() && belowFluid.getType() instanceof FlowingFluid && belowIndex != -1 && adjacentSourceBlocksByFluid[belowIndex] >= 2)
             {
                 // Try and create a source block of the same type as the below
                 return ((FlowingFluid) belowFluid.getType()).getSource(false);
@@ -335,12 +378,12 @@ public final class FluidHelpers
                 // This could potentially form fluid blocks from multiple blocks. It can only override the current source if there's three adjacent equal sources, or form a source if this is the same as three adjacent sources
                 FlowingFluid maximumAdjacentSourceFluid = self;
                 int maximumAdjacentSourceBlocks = 0;
-                for (Object2IntMap.Entry<FlowingFluid> entry : adjacentSourceBlocksByFluid.object2IntEntrySet())
+                for (int i = 0; i < adjacentSourceFluidTypes; i++)
                 {
-                    if (entry.getIntValue() > maximumAdjacentSourceBlocks || entry.getKey() == self)
+                    if (adjacentSourceBlocksByFluid[i] > maximumAdjacentSourceBlocks || adjacentSourceFluids[i] == self)
                     {
-                        maximumAdjacentSourceBlocks = entry.getIntValue();
-                        maximumAdjacentSourceFluid = entry.getKey();
+                        maximumAdjacentSourceBlocks = adjacentSourceBlocksByFluid[i];
+                        maximumAdjacentSourceFluid = adjacentSourceFluids[i];
                     }
                 }
 
@@ -376,6 +419,29 @@ public final class FluidHelpers
         }
     }
 
+    private static int indexOf(@Nullable FlowingFluid[] fluids, int size, Fluid fluid)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (fluids[i] == fluid)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfOrAdd(FlowingFluid[] fluids, int size, FlowingFluid fluid)
+    {
+        final int index = indexOf(fluids, size, fluid);
+        if (index == -1)
+        {
+            fluids[size] = fluid;
+            return size;
+        }
+        return index;
+    }
+
     public static void setSourceBlock(Level level, BlockPos pos, Fluid fluid)
     {
         if (fluid instanceof FlowingFluid flow)
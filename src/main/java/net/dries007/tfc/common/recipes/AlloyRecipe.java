@@ -6,7 +6,9 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -25,15 +27,38 @@ import net.minecraft.world.level.Level;
 import net.minecraftforge.common.util.Lazy;
 
 import net.dries007.tfc.common.recipes.inventory.AlloyInventory;
+import net.dries007.tfc.util.Alloy;
 import net.dries007.tfc.util.JsonHelpers;
 import net.dries007.tfc.util.Metal;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class AlloyRecipe implements ISimpleRecipe<AlloyInventory>
 {
+    /**
+     * Recipes are indexed by the set of metals (by {@link Metal#getIndex()}) they accept: both the exact set of metals in the recipe, and that set plus the result metal.
+     */
+    public static final IndirectHashCollection<BitSet, AlloyRecipe> CACHE = new IndirectHashCollection<>(AlloyRecipe::getValidMetalSets);
+
+    @Nullable
+    public static AlloyRecipe getRecipe(Alloy alloy)
+    {
+        for (AlloyRecipe recipe : CACHE.getAll(alloy.getMetalSet()))
+        {
+            if (alloy.matches(recipe))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
     private final Supplier<Map<Metal, Range>> metals;
     private final Supplier<Metal> result;
 
+    @Nullable private Metal[] indexedMetals; // The metal indices that the below are valid for
+    @Nullable private Range[] indexedRanges;
+
     public AlloyRecipe(ResourceLocation id, Supplier<Map<Metal, Range>> metals, Supplier<Metal> result)
     {
         this.id = id;
@@ -46,6 +71,28 @@ public class AlloyRecipe implements ISimpleRecipe<AlloyInventory>
         return metals.get();
     }
 
+    /**
+     * @return The ranges of this recipe, indexed by {@link Metal#getIndex()}. Metals which are not part of this recipe are {@code null}.
+     */
+    public Range[] getIndexedRanges()
+    {
+        final Metal[] currentMetals = Metal.getIndexedMetals();
+        if (indexedMetals != currentMetals || indexedRanges == null)
+        {
+            final Range[] ranges = new Range[currentMetals.length];
+            getRanges().forEach((metal, range) -> {
+                final int index = Metal.indexOf(metal);
+                if (index != -1)
+                {
+                    ranges[index] = range;
+                }
+            });
+            indexedMetals = currentMetals;
+            indexedRanges = ranges;
+        }
+        return indexedRanges;
+    }
+
     public Metal getResult()
     {
         return result.get();
@@ -57,6 +104,30 @@ public class AlloyRecipe implements ISimpleRecipe<AlloyInventory>
         return wrapper.getAlloy().matches(this);
     }
 
+    private List<BitSet> getValidMetalSets()
+    {
+        final BitSet exact = new BitSet();
+        for (Metal metal : getRanges().keySet())
+        {
+            final int index = Metal.indexOf(metal);
+            if (index == -1)
+            {
+                return List.of(); // Cannot match anything
+            }
+            exact.set(index);
+        }
+
+        final int resultIndex = Metal.indexOf(getResult());
+        if (resultIndex == -1 || exact.get(resultIndex))
+        {
+            return List.of(exact);
+        }
+
+        final BitSet withResult = (BitSet) exact.clone();
+        withResult.set(resultIndex);
+        return List.of(exact, withResult);
+    }
+
     @Override
     public ItemStack getResultItem()
     {
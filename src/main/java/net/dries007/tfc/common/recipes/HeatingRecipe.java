@@ -32,6 +32,15 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
 public class HeatingRecipe implements ISimpleRecipe<ItemStackInventory>
 {
     public static final IndirectHashCollection<Item, HeatingRecipe> CACHE = new IndirectHashCollection<>(HeatingRecipe::getValidItems);
+    public static final SlotRecipeCache.Stats SLOT_CACHE_STATS = SlotRecipeCache.stats("heating");
+
+    /**
+     * @return A new slot cache of heating recipes, for a device with {@code slots} slots.
+     */
+    public static SlotRecipeCache<HeatingRecipe> createSlotCache(int slots)
+    {
+        return new SlotRecipeCache<>(slots, SLOT_CACHE_STATS, HeatingRecipe::getRecipe);
+    }
 
     @Nullable
     public static HeatingRecipe getRecipe(ItemStack stack)
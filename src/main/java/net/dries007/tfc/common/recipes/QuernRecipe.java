@@ -22,6 +22,7 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
 public class QuernRecipe extends SimpleItemRecipe
 {
     public static final IndirectHashCollection<Item, QuernRecipe> CACHE = new IndirectHashCollection<>(QuernRecipe::getValidItems);
+    public static final SlotRecipeCache.Stats SLOT_CACHE_STATS = SlotRecipeCache.stats("quern");
 
     @Nullable
     public static QuernRecipe getRecipe(Level world, ItemStackInventory wrapper)
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.recipes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.jetbrains.annotations.Nullable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A per-slot memo of recipe lookups, for block entities and containers that repeatedly need the recipe of the stack in a slot.
+ * Each slot remembers the stack, item and tag it was last queried with, and the recipe that was found. A lookup only happens if the slot's contents were replaced, or the recipe caches were reloaded since.
+ * Slots should still be {@link #invalidate(int)}-ed when modified in place, as the stack and tag are compared by identity.
+ *
+ * @param <R> The recipe type.
+ */
+public final class SlotRecipeCache<R>
+{
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final List<Stats> STATS = new ArrayList<>();
+
+    private static int generation = 0;
+
+    /**
+     * Invalidates every slot of every cache. Called when recipes are reloaded, as the cached recipes may no longer exist.
+     */
+    public static synchronized void invalidateAll()
+    {
+        generation++;
+        for (Stats stats : STATS)
+        {
+            if (stats.hits + stats.misses > 0)
+            {
+                LOGGER.debug("Slot recipe cache for {}: {} hits, {} misses ({}% hit rate)", stats.name, stats.hits, stats.misses, String.format("%.1f", stats.getHitRate() * 100));
+            }
+        }
+    }
+
+    /**
+     * @param name A name for the recipe type, which shares the hit rate stats with all other caches of the same name.
+     */
+    public static synchronized Stats stats(String name)
+    {
+        for (Stats stats : STATS)
+        {
+            if (stats.name.equals(name))
+            {
+                return stats;
+            }
+        }
+        final Stats stats = new Stats(name);
+        STATS.add(stats);
+        return stats;
+    }
+
+    private final Function<ItemStack, R> lookup;
+    private final Stats stats;
+
+    private final ItemStack[] stacks;
+    private final Item[] items;
+    private final CompoundTag[] tags;
+    private final Object[] recipes;
+    private final int[] generations;
+
+    /**
+     * @param slots  The number of slots. Slot indices passed to {@link #get(int, ItemStack)} are in [0, slots).
+     * @param stats  The stats for this recipe type, see {@link #stats(String)}
+     * @param lookup The uncached recipe lookup. Only called with non-empty stacks.
+     */
+    public SlotRecipeCache(int slots, Stats stats, Function<ItemStack, R> lookup)
+    {
+        this.lookup = lookup;
+        this.stats = stats;
+        this.stacks = new ItemStack[slots];
+        this.items = new Item[slots];
+        this.tags = new CompoundTag[slots];
+        this.recipes = new Object[slots];
+        this.generations = new int[slots];
+
+        invalidate();
+    }
+
+    /**
+     * @return The recipe for {@code stack}, which should be the current stack in {@code slot}.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public R get(int slot, ItemStack stack)
+    {
+        if (stack.isEmpty())
+        {
+            return null;
+        }
+        if (generations[slot] == generation && stacks[slot] == stack && items[slot] == stack.getItem() && tags[slot] == stack.getTag())
+        {
+            stats.hits++;
+            return (R) recipes[slot];
+        }
+
+        stats.misses++;
+        final R recipe = lookup.apply(stack);
+        stacks[slot] = stack;
+        items[slot] = stack.getItem();
+        tags[slot] = stack.getTag();
+        recipes[slot] = recipe;
+        generations[slot] = generation;
+        return recipe;
+    }
+
+    public void invalidate(int slot)
+    {
+        stacks[slot] = null;
+        items[slot] = null;
+        tags[slot] = null;
+        recipes[slot] = null;
+        generations[slot] = generation - 1;
+    }
+
+    public void invalidate()
+    {
+        Arrays.fill(stacks, null);
+        Arrays.fill(items, null);
+        Arrays.fill(tags, null);
+        Arrays.fill(recipes, null);
+        Arrays.fill(generations, generation - 1);
+    }
+
+    /**
+     * Hit rate stats for all slot caches of a single recipe type. These are not synchronized, and are only approximate if caches are used from multiple threads.
+     */
+    public static final class Stats
+    {
+        private final String name;
+        private long hits, misses;
+
+        private Stats(String name)
+        {
+            this.name = name;
+        }
+
+        public double getHitRate()
+        {
+            final long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableForcedTFCGameRules;
     public final ForgeConfigSpec.BooleanValue enableFireArrowSpreading;
     public final ForgeConfigSpec.DoubleValue fireStarterChance;
+    public final ForgeConfigSpec.IntValue calendarUpdatesPerTick;
     // Blocks - Farmland
     public final ForgeConfigSpec.BooleanValue enableFarmlandCreation;
     // Blocks - Grass Path
@@ -91,6 +92,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableBlockCollapsing;
     public final ForgeConfigSpec.BooleanValue enableExplosionCollapsing;
     public final ForgeConfigSpec.BooleanValue enableBlockLandslides;
+    public final ForgeConfigSpec.IntValue landslidesPerTick;
     public final ForgeConfigSpec.DoubleValue collapseTriggerChance;
     public final ForgeConfigSpec.DoubleValue collapsePropagateChance;
     public final ForgeConfigSpec.DoubleValue collapseExplosionPropagateChance;
@@ -124,6 +126,9 @@ public class ServerConfig
         ).define("enableForcedTFCGameRules", true);
         enableFireArrowSpreading = builder.apply("enableFireArrowSpreading").comment("Enable fire arrows and fireballs to spread fire and light blocks.").define("enableFireArrowSpreading", true);
         fireStarterChance = builder.apply("fireStarterChance").comment("Base probability for a firestarter to start a fire. May change based on circumstances").defineInRange("fireStarterChance", 0.5, 0, 1);
+        calendarUpdatesPerTick = builder.apply("calendarUpdatesPerTick").comment(
+            "The maximum number of devices (firepits, forges, crops, etc.) which will catch up on a large calendar change, such as sleeping or changing the time, per world per tick.",
+            "Additional devices will wait and catch up on following ticks.").defineInRange("calendarUpdatesPerTick", 64, 1, Integer.MAX_VALUE);
 
         innerBuilder.pop().push("blocks").push("farmland");
 
@@ -223,6 +228,9 @@ public class ServerConfig
         enableBlockCollapsing = builder.apply("enableBlockCollapsing").comment("Enable rock collapsing when mining raw stone blocks").define("enableBlockCollapsing", true);
         enableExplosionCollapsing = builder.apply("enableExplosionCollapsing").comment("Enable explosions causing immediate collapses.").define("enableExplosionCollapsing", true);
         enableBlockLandslides = builder.apply("enableBlockLandslides").comment("Enable land slides (gravity affected blocks) when placing blocks or on block updates.").define("enableBlockLandslides", true);
+        landslidesPerTick = builder.apply("landslidesPerTick").comment(
+            "The maximum number of blocks which are checked for land slides, per world per tick.",
+            "Additional blocks will wait and be checked on following ticks, which spreads out large land slides (i.e. from mining into a hillside).").defineInRange("landslidesPerTick", 64, 1, Integer.MAX_VALUE);
 
         collapseTriggerChance = builder.apply("collapseTriggerChance").comment("Chance for a collapse to be triggered by mining a block.").defineInRange("collapseTriggerChance", 0.1, 0, 1);
         collapsePropagateChance = builder.apply("collapsePropagateChance").comment("Chance for a block fo fall from mining collapse. Higher = mor likely.").defineInRange("collapsePropagateChance", 0.55, 0, 1);
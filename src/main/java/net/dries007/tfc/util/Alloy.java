@@ -6,20 +6,16 @@
 
 package net.dries007.tfc.util;
 
-import java.util.Map;
+import java.util.BitSet;
 import org.jetbrains.annotations.Nullable;
 
-import com.google.common.collect.Sets;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.common.util.INBTSerializable;
 import net.minecraftforge.server.ServerLifecycleHooks;
 
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import net.dries007.tfc.common.recipes.AlloyRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
-import net.dries007.tfc.common.recipes.inventory.AlloyInventory;
 
 public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
 {
@@ -42,11 +38,17 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
         assert 1d / (1 + MAX_ALLOY) >= EPSILON;
     }
 
-    private final Object2DoubleMap<Metal> metalMap, sanitizedMetalMap;
+    /**
+     * Metal content is stored densely, indexed by {@link Metal#getIndex()}, against the metal indices in {@code indexedMetals}.
+     * If metals are reloaded, the contents are re-indexed on next access.
+     */
+    private Metal[] indexedMetals;
+    private double[] metalAmounts;
+    private final Object2DoubleMap<Metal> sanitizedMetalMap;
+    private boolean sanitizedMetalMapDirty;
     private int totalUnits;
     private int maxUnits;
 
-    @Nullable private AlloyInventory wrapper; // Lazy, initialized on demand and cached
     @Nullable private Metal cachedResult;
 
     /**
@@ -64,8 +66,10 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
      */
     public Alloy(int maxUnits)
     {
-        this.metalMap = new Object2DoubleOpenHashMap<>();
+        this.indexedMetals = Metal.getIndexedMetals();
+        this.metalAmounts = new double[indexedMetals.length];
         this.sanitizedMetalMap = new Object2DoubleOpenHashMap<>();
+        this.sanitizedMetalMapDirty = false;
         this.totalUnits = 0;
         this.maxUnits = maxUnits;
     }
@@ -75,6 +79,9 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
      */
     public void add(Alloy other)
     {
+        updateIndices();
+        other.updateIndices();
+
         int newTotalAmount = totalUnits + other.totalUnits;
         double keepRatio = 1;
         if (newTotalAmount > maxUnits)
@@ -84,9 +91,9 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
         }
         // Directly add the other alloy exact values. This is important as it needs to not round floating point alloy amounts
         totalUnits += other.totalUnits;
-        for (Map.Entry<Metal, Double> entry : other.metalMap.object2DoubleEntrySet())
+        for (int i = 0; i < metalAmounts.length; i++)
         {
-            metalMap.mergeDouble(entry.getKey(), keepRatio * entry.getValue(), Double::sum);
+            metalAmounts[i] += keepRatio * other.metalAmounts[i];
         }
         updateCaches();
     }
@@ -95,10 +102,15 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
      * Adds an {@code amount} of a {@code metal} to an alloy.
      *
      * @param simulate If the action should just be simulated.
-     * @return The amount of metal that would (or has) be added.
+     * @return The amount of metal that would (or has) be added. Metals which are no longer loaded cannot be added.
      */
     public int add(Metal metal, int amount, boolean simulate)
     {
+        final int index = Metal.indexOf(metal);
+        if (index == -1)
+        {
+            return 0;
+        }
         if (totalUnits + amount >= maxUnits) // Account for alloy limits
         {
             // Find the amount that can be added
@@ -111,7 +123,8 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
         }
         if (!simulate)
         {
-            metalMap.mergeDouble(metal, amount, Double::sum);
+            updateIndices();
+            metalAmounts[index] += amount;
             totalUnits += amount;
             updateCaches();
         }
@@ -123,20 +136,26 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
     {
         if (cachedResult == null)
         {
-            if (metalMap.size() == 1)
-            {
-                cachedResult = metalMap.keySet().iterator().next(); // Easy way to get the only metal in the alloy
-            }
-            else
+            updateIndices();
+
+            int onlyMetal = -1;
+            for (int i = 0; i < metalAmounts.length; i++)
             {
-                final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-                if (server != null)
+                if (metalAmounts[i] > 0)
                 {
-                    cachedResult = server.getRecipeManager().getRecipeFor(TFCRecipeTypes.ALLOY.get(), getWrapper(), server.overworld())
-                        .map(AlloyRecipe::getResult)
-                        .orElseGet(Metal::unknown);
+                    onlyMetal = onlyMetal == -1 ? i : -2;
                 }
             }
+
+            if (onlyMetal >= 0)
+            {
+                cachedResult = indexedMetals[onlyMetal]; // Easy way to get the only metal in the alloy
+            }
+            else if (ServerLifecycleHooks.getCurrentServer() != null)
+            {
+                final AlloyRecipe recipe = AlloyRecipe.getRecipe(this);
+                cachedResult = recipe != null ? recipe.getResult() : Metal.unknown();
+            }
         }
         if (cachedResult == null)
         {
@@ -167,19 +186,14 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
         }
         else
         {
-            Object2DoubleMap<Metal> resultMap = new Object2DoubleOpenHashMap<>(metalMap.size());
-            for (Object2DoubleMap.Entry<Metal> entry : metalMap.object2DoubleEntrySet())
+            for (int i = 0; i < metalAmounts.length; i++)
             {
-                // Remove the amount of metal from each component, add the remainder (if it exists) into the result map
-                double remove = removeAmount * entry.getDoubleValue() / totalUnits;
-                if (entry.getDoubleValue() > remove)
-                {
-                    resultMap.put(entry.getKey(), entry.getDoubleValue() - remove);
-                }
+                // Remove the amount of metal from each component, keeping the remainder (if it exists)
+                final double amount = metalAmounts[i];
+                final double remove = removeAmount * amount / totalUnits;
+                metalAmounts[i] = amount > remove ? amount - remove : 0;
             }
             totalUnits -= removeAmount;
-            metalMap.clear();
-            metalMap.putAll(resultMap);
             updateCaches();
             return removeAmount;
         }
@@ -210,19 +224,56 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
     @Override
     public Object2DoubleMap<Metal> getMetals()
     {
+        updateIndices();
+        if (sanitizedMetalMapDirty)
+        {
+            sanitizedMetalMap.clear();
+            final double actualTotalAmount = getExactAmount();
+            for (int i = 0; i < metalAmounts.length; i++)
+            {
+                if (metalAmounts[i] > actualTotalAmount * EPSILON)
+                {
+                    sanitizedMetalMap.put(indexedMetals[i], metalAmounts[i]);
+                }
+            }
+            sanitizedMetalMapDirty = false;
+        }
         return sanitizedMetalMap;
     }
 
+    /**
+     * @return The set of metals (by {@link Metal#getIndex()}) which are visible in {@link #getMetals()}.
+     */
+    public BitSet getMetalSet()
+    {
+        updateIndices();
+        final BitSet metals = new BitSet(metalAmounts.length);
+        final double actualTotalAmount = getExactAmount();
+        for (int i = 0; i < metalAmounts.length; i++)
+        {
+            if (metalAmounts[i] > actualTotalAmount * EPSILON)
+            {
+                metals.set(i);
+            }
+        }
+        return metals;
+    }
+
     @Override
     public CompoundTag serializeNBT()
     {
+        updateIndices();
+
         CompoundTag nbt = new CompoundTag();
         nbt.putInt("maxUnits", maxUnits);
         nbt.putInt("totalUnits", totalUnits);
         CompoundTag alloys = new CompoundTag();
-        for (Object2DoubleMap.Entry<Metal> entry : this.metalMap.object2DoubleEntrySet())
+        for (int i = 0; i < metalAmounts.length; i++)
         {
-            alloys.putDouble(entry.getKey().getId().toString(), entry.getDoubleValue());
+            if (metalAmounts[i] > 0)
+            {
+                alloys.putDouble(indexedMetals[i].getId().toString(), metalAmounts[i]);
+            }
         }
         nbt.put("contents", alloys);
         return nbt;
@@ -243,30 +294,61 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
         totalUnits = nbt.getInt("totalUnits");
 
         final CompoundTag contents = nbt.getCompound("contents");
-        for (Metal metal : Metal.MANAGER.getValues())
+        for (int i = 0; i < indexedMetals.length; i++)
         {
-            String key = metal.getId().toString();
+            String key = indexedMetals[i].getId().toString();
             if (contents.contains(key))
             {
-                metalMap.put(metal, contents.getDouble(key));
+                metalAmounts[i] = contents.getDouble(key);
             }
         }
 
         updateCaches();
     }
 
+    /**
+     * Checks if this alloy matches a recipe. If the alloy contains the recipe's result metal, that is excluded, and the remaining metals must match the recipe exactly.
+     * This is done against the recipe's indexed ranges, without copying the alloy.
+     */
     public boolean matches(AlloyRecipe recipe)
     {
-        if (metalMap.containsKey(recipe.getResult()))
+        updateIndices();
+
+        final AlloyRecipe.Range[] ranges = recipe.getIndexedRanges();
+        final int resultIndex = Metal.indexOf(recipe.getResult());
+        final boolean excludeResult = resultIndex != -1 && metalAmounts[resultIndex] > 0;
+
+        // The total does not include the result, if excluded. This is intentional.
+        double actualTotalAmount = getExactAmount();
+        if (excludeResult)
         {
-            // Construct a dummy alloy to compare with. The dummy does not have an accurate total units value, this is intentional.
-            Alloy other = new Alloy();
-            other.add(this);
-            other.metalMap.removeDouble(recipe.getResult());
-            other.updateCaches();
-            return other.matchesExactly(recipe);
+            actualTotalAmount -= metalAmounts[resultIndex];
         }
-        return matchesExactly(recipe);
+
+        // for each metal in the alloy, it needs to satisfy an ingredient
+        // for each metal in the recipe, it needs to match with an alloy
+        final double threshold = actualTotalAmount * EPSILON;
+        for (int i = 0; i < metalAmounts.length; i++)
+        {
+            if (excludeResult && i == resultIndex)
+            {
+                continue;
+            }
+            final double amount = metalAmounts[i];
+            final AlloyRecipe.Range range = ranges[i];
+            if (amount > threshold)
+            {
+                if (range == null || !range.isIn(amount / actualTotalAmount, EPSILON))
+                {
+                    return false;
+                }
+            }
+            else if (range != null)
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -274,57 +356,57 @@ public class Alloy implements INBTSerializable<CompoundTag>, AlloyView
      */
     private void clear()
     {
-        metalMap.clear();
+        indexedMetals = Metal.getIndexedMetals();
+        metalAmounts = new double[indexedMetals.length];
         sanitizedMetalMap.clear();
+        sanitizedMetalMapDirty = false;
         totalUnits = 0;
         cachedResult = null;
     }
 
     /**
-     * Updates all cached values.
-     * The sanitized map is kept as a read-only view of the current alloy, with values < epsilon excluded.
+     * Marks all cached values as invalid.
+     * The sanitized map is kept as a read-only view of the current alloy, with values < epsilon excluded, and is rebuilt when next requested.
      */
     private void updateCaches()
     {
         cachedResult = null;
-
-        sanitizedMetalMap.clear();
-        double actualTotalAmount = getExactAmount();
-        metalMap.object2DoubleEntrySet().forEach(entry -> {
-            if (entry.getDoubleValue() > actualTotalAmount * EPSILON)
-            {
-                sanitizedMetalMap.put(entry.getKey(), entry.getDoubleValue());
-            }
-        });
+        sanitizedMetalMapDirty = true;
     }
 
-    private double getExactAmount()
-    {
-        return metalMap.values().doubleStream().sum();
-    }
-
-    private AlloyInventory getWrapper()
+    /**
+     * If metals have been reloaded since the contents of this alloy were indexed, re-index them against the current metals, by id.
+     */
+    private void updateIndices()
     {
-        if (wrapper == null)
+        final Metal[] currentMetals = Metal.getIndexedMetals();
+        if (indexedMetals != currentMetals)
         {
-            wrapper = new AlloyInventory(this);
+            final double[] currentAmounts = new double[currentMetals.length];
+            for (int i = 0; i < metalAmounts.length; i++)
+            {
+                if (metalAmounts[i] > 0)
+                {
+                    final int index = Metal.indexOf(indexedMetals[i]);
+                    if (index != -1)
+                    {
+                        currentAmounts[index] += metalAmounts[i];
+                    }
+                }
+            }
+            indexedMetals = currentMetals;
+            metalAmounts = currentAmounts;
+            updateCaches();
         }
-        return wrapper;
     }
 
-    private boolean matchesExactly(AlloyRecipe recipe)
+    private double getExactAmount()
     {
-        // for each metal in the alloy, it needs to satisfy an ingredient
-        // for each metal in the recipe, it needs to match with an alloy
-        Object2DoubleMap<Metal> metals = getMetals();
-        double actualTotalAmount = getExactAmount();
-        for (Metal metal : Sets.union(recipe.getRanges().keySet(), metals.keySet()))
+        double total = 0;
+        for (double amount : metalAmounts)
         {
-            if (!metals.containsKey(metal) || !recipe.getRanges().containsKey(metal) || !recipe.getRanges().get(metal).isIn(metals.getDouble(metal) / actualTotalAmount, EPSILON))
-            {
-                return false;
-            }
+            total += amount;
         }
-        return true;
+        return total;
     }
 }
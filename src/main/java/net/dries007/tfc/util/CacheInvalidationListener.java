@@ -41,6 +41,8 @@ public enum CacheInvalidationListener implements SyncReloadListener
         ScrapingRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.SCRAPING.get()));
         CastingRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.CASTING.get()));
         LoomRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.LOOM.get()));
+        AlloyRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.ALLOY.get()));
+        SlotRecipeCache.invalidateAll();
 
         LocateVeinCommand.clearCache();
         InteractionManager.reloadCache();
@@ -42,6 +42,14 @@ public class ItemDefinition
         return ingredient.test(stack);
     }
 
+    /**
+     * @return {@code true} if this definition only depends on the item of a stack, and so gives the same result for any stack of a valid item. Any ingredient which is not a plain {@link Ingredient} may depend on the stack's NBT or capabilities.
+     */
+    public boolean matchesItemOnly()
+    {
+        return ingredient.getClass() == Ingredient.class;
+    }
+
     public Collection<Item> getValidItems()
     {
         return Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
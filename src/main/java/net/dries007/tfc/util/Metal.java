@@ -56,6 +56,8 @@ public final class Metal
 
     private static final Map<Fluid, Metal> METAL_FLUIDS = new HashMap<>();
 
+    private static Metal[] INDEXED_METALS = new Metal[0];
+
     /**
      * Reverse lookup for metals attached to fluids.
      * For the other direction, see {@link Metal#getFluid()}.
@@ -77,17 +79,49 @@ public final class Metal
         return MANAGER.getOrThrow(UNKNOWN_ID);
     }
 
+    /**
+     * All currently loaded metals, where each metal is at the position of its {@link Metal#getIndex()}.
+     * This array is replaced on every reload, so an identity comparison can be used to check if indices are still valid.
+     */
+    public static Metal[] getIndexedMetals()
+    {
+        return INDEXED_METALS;
+    }
+
+    /**
+     * Resolves the current index of a metal. This is tolerant of metal instances from before the last reload, which are resolved by id.
+     *
+     * @return The index of the metal in {@link #getIndexedMetals()}, or -1 if it is no longer loaded.
+     */
+    public static int indexOf(Metal metal)
+    {
+        final Metal[] indexed = INDEXED_METALS;
+        final int index = metal.index;
+        if (index >= 0 && index < indexed.length && indexed[index] == metal)
+        {
+            return index;
+        }
+        final Metal current = MANAGER.get(metal.getId());
+        return current != null ? current.index : -1;
+    }
+
     private static void reload()
     {
         // Ensure 'unknown' metal exists
         unknown();
 
-        // Reload fluid -> metal map
+        // Reload fluid -> metal map, and assign dense indices
         METAL_FLUIDS.clear();
+        final Metal[] indexed = new Metal[MANAGER.getValues().size()];
+        int index = 0;
         for (Metal metal : MANAGER.getValues())
         {
             METAL_FLUIDS.put(metal.getFluid(), metal);
+            metal.index = index;
+            indexed[index] = metal;
+            index++;
         }
+        INDEXED_METALS = indexed;
     }
 
     private final Tier tier;
@@ -98,6 +132,8 @@ public final class Metal
     private final ResourceLocation id;
     private final String translationKey;
 
+    private int index = -1;
+
     public Metal(ResourceLocation id, JsonObject json)
     {
         this.id = id;
@@ -132,6 +168,14 @@ public final class Metal
         return id;
     }
 
+    /**
+     * @return The index of this metal in {@link #getIndexedMetals()}, assigned when metals are loaded.
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
     public Tier getTier()
     {
         return tier;
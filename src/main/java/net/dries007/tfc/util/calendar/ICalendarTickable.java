@@ -8,6 +8,9 @@ package net.dries007.tfc.util.calendar;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 
+import net.dries007.tfc.util.tracker.IWorldTracker;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+
 /**
  * This is implemented on TileEntities that need to receive updates whenever the calendar changes drastically
  * Note: the default {@code update()} casts the implementor to {@link BlockEntity}
@@ -18,6 +21,8 @@ public interface ICalendarTickable
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary
      *
      * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
+     *
+     * Large numbers of updates (i.e. after sleeping) are spread over several ticks by the world tracker, see {@link IWorldTracker#deferCalendarUpdate(ICalendarTickable, long)}. A deferred update is called with the delta observed here, plus any further jumps observed while waiting, after the entity has ticked normally in the mean time.
      */
     default void checkForCalendarUpdate()
     {
@@ -29,6 +34,11 @@ public interface ICalendarTickable
             final long tickDelta = thisTick - lastTick;
             if (lastTick != Integer.MIN_VALUE && tickDelta != 1)
             {
+                if (tickDelta > 1 && te.getLevel().getCapability(WorldTrackerCapability.CAPABILITY).map(tracker -> tracker.deferCalendarUpdate(this, tickDelta - 1)).orElse(false))
+                {
+                    // Deferred to a later tick, by the world tracker. Leave the last update tick untouched until then.
+                    return;
+                }
                 onCalendarUpdate(tickDelta - 1);
             }
             setLastUpdateTick(thisTick);
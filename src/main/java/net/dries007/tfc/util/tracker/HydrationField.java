@@ -0,0 +1,185 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+
+/**
+ * A cache of the distance to the nearest hydrating water, for farmland. The cost for a single position is the minimum, over all hydrating fluids in a 9x9x2 box below and around it, of the horizontal (Chebyshev) distance plus two if the fluid is one block down. It is capped at five, meaning no water was found.
+ * Costs are stored per chunk, per y level, as a lazily filled byte array. Positions are cleared whenever a block within range of them changes.
+ * Farmland reads its hydration on random ticks, which are over a thousand ticks apart for a single block, so bands are kept until they have not been read for {@link #IDLE_EXPIRY_TICKS}. Bands are also reset after {@link #MAX_AGE_TICKS}, which bounds the staleness of changes that were made without a block update.
+ */
+public final class HydrationField
+{
+    public static final int MAX_COST = 5;
+    public static final int RADIUS = 4;
+    public static final long IDLE_EXPIRY_TICKS = 12000;
+    public static final long MAX_AGE_TICKS = 24000;
+    public static final long CLEANUP_INTERVAL_TICKS = 1200;
+
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * The (uncached) hydration cost of a single position.
+     *
+     * @return A value in [1, 5], or zero if the position itself is water.
+     */
+    public static int findMinCostWater(WaterSource source, int x, int y, int z)
+    {
+        int minCostWater = MAX_COST;
+        for (int dx = -RADIUS; dx <= RADIUS; dx++)
+        {
+            for (int dz = -RADIUS; dz <= RADIUS; dz++)
+            {
+                for (int dy = -1; dy <= 0; dy++)
+                {
+                    final int cost = Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
+                    if (cost < minCostWater && source.isHydrating(x + dx, y + dy, z + dz))
+                    {
+                        minCostWater = cost;
+                        if (minCostWater == 1)
+                        {
+                            return 1;
+                        }
+                    }
+                }
+            }
+        }
+        return minCostWater;
+    }
+
+    private final Long2ObjectMap<Band> bands = new Long2ObjectOpenHashMap<>();
+
+    // The range of y levels of all bands, so block changes (called for every block update in the world) far from any farmland are rejected without a lookup
+    private int minBandY = Integer.MAX_VALUE, maxBandY = Integer.MIN_VALUE;
+
+    /**
+     * @param gameTime The current game time, used to expire old bands.
+     * @return The hydration cost at the given position, as returned by {@link #findMinCostWater(WaterSource, int, int, int)}
+     */
+    public int getCost(WaterSource source, int x, int y, int z, long gameTime)
+    {
+        final long key = BlockPos.asLong(x >> 4, y, z >> 4);
+        Band band = bands.get(key);
+        if (band == null)
+        {
+            band = new Band(gameTime);
+            bands.put(key, band);
+            minBandY = Math.min(minBandY, y);
+            maxBandY = Math.max(maxBandY, y);
+        }
+        else if (gameTime - band.created > MAX_AGE_TICKS)
+        {
+            band.reset(gameTime);
+        }
+        band.lastAccess = gameTime;
+
+        // Costs are stored offset by one, so zero can mark an unknown cost
+        final int index = ((x & 15) << 4) | (z & 15);
+        final int stored = band.costs[index];
+        if (stored != UNKNOWN)
+        {
+            return stored - 1;
+        }
+        final int cost = findMinCostWater(source, x, y, z);
+        band.costs[index] = (byte) (cost + 1);
+        return cost;
+    }
+
+    /**
+     * Clears every cached cost which may depend on the block at the given position.
+     */
+    public void onBlockChanged(int x, int y, int z)
+    {
+        if (y + 1 < minBandY || y > maxBandY)
+        {
+            return; // Also true if there are no bands
+        }
+
+        // A block at y affects positions at y (the same level), and y + 1 (one block down from them)
+        final int minX = x - RADIUS, maxX = x + RADIUS, minZ = z - RADIUS, maxZ = z + RADIUS;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+        {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+            {
+                for (int bandY = y; bandY <= y + 1; bandY++)
+                {
+                    final Band band = bands.get(BlockPos.asLong(chunkX, bandY, chunkZ));
+                    if (band != null)
+                    {
+                        final int startX = Math.max(minX, chunkX << 4) & 15, endX = Math.min(maxX, (chunkX << 4) + 15) & 15;
+                        final int startZ = Math.max(minZ, chunkZ << 4) & 15, endZ = Math.min(maxZ, (chunkZ << 4) + 15) & 15;
+                        for (int localX = startX; localX <= endX; localX++)
+                        {
+                            Arrays.fill(band.costs, (localX << 4) | startZ, ((localX << 4) | endZ) + 1, UNKNOWN);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards any bands which have not been read recently, or are old enough that they would be reset on their next access.
+     */
+    public void removeExpired(long gameTime)
+    {
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (Iterator<Long2ObjectMap.Entry<Band>> iterator = bands.long2ObjectEntrySet().iterator(); iterator.hasNext(); )
+        {
+            final Long2ObjectMap.Entry<Band> entry = iterator.next();
+            final Band band = entry.getValue();
+            if (gameTime - band.lastAccess > IDLE_EXPIRY_TICKS || gameTime - band.created > MAX_AGE_TICKS)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                final int y = BlockPos.getY(entry.getLongKey());
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        minBandY = minY;
+        maxBandY = maxY;
+    }
+
+    public int size()
+    {
+        return bands.size();
+    }
+
+    @FunctionalInterface
+    public interface WaterSource
+    {
+        boolean isHydrating(int x, int y, int z);
+    }
+
+    private static final class Band
+    {
+        final byte[] costs = new byte[16 * 16];
+        long created;
+        long lastAccess;
+
+        Band(long created)
+        {
+            this.created = created;
+            this.lastAccess = created;
+        }
+
+        void reset(long gameTime)
+        {
+            Arrays.fill(costs, UNKNOWN);
+            created = gameTime;
+        }
+    }
+}
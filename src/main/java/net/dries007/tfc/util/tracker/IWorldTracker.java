@@ -11,6 +11,8 @@ import java.util.Collection;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 
+import net.dries007.tfc.util.calendar.ICalendarTickable;
+
 /**
  * Interface for the capability attached to {@link net.minecraft.world.World}s
  *
@@ -38,5 +40,27 @@ public interface IWorldTracker
      */
     void addCollapsePositions(BlockPos centerPos, Collection<BlockPos> positions);
 
+    /**
+     * Called by a {@link ICalendarTickable} which has observed a calendar discrepancy. If this tick's budget of calendar updates has been spent, or the tickable is already waiting, the update is queued and performed on a later tick. Further jumps observed while waiting are added to the queued update.
+     *
+     * @return {@code true} if the update was deferred, and the caller should not update now.
+     */
+    boolean deferCalendarUpdate(ICalendarTickable tickable, long ticks);
+
+    /**
+     * @return The number of {@link ICalendarTickable}s currently waiting for a deferred calendar update.
+     */
+    int getPendingCalendarUpdates();
+
+    /**
+     * @return The cached distances to hydrating water for farmland in this world.
+     */
+    HydrationField getHydrationField();
+
     void tick(Level world);
+
+    /**
+     * Performs queued calendar updates, up to what remains of the per-tick budget, which is refilled in {@link #tick(Level)}. Called at the end of each world tick.
+     */
+    void tickCalendarUpdates(Level level);
 }
\ No newline at end of file
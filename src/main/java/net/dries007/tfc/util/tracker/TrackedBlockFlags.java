@@ -0,0 +1,67 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Which block states need to be tracked by the {@link IWorldTracker} when they are placed or receive a neighbor update.
+ * This is checked for every neighbor notification on the server, so the tag checks are precomputed into a table indexed by block state id, which is rebuilt whenever tags are reloaded.
+ */
+public final class TrackedBlockFlags
+{
+    public static final byte LANDSLIDE = 1; // In TFCTags.Blocks.CAN_LANDSLIDE
+    public static final byte ISOLATED = 2; // In TFCTags.Blocks.BREAKS_WHEN_ISOLATED
+
+    private static volatile byte[] flagsById = new byte[0];
+
+    public static byte get(BlockState state)
+    {
+        final byte[] flags = flagsById;
+        final int id = Block.getId(state);
+        if (id >= 0 && id < flags.length)
+        {
+            return flags[id];
+        }
+        return compute(state); // Before tags are loaded, or for any states registered after
+    }
+
+    /**
+     * Called when tags are reloaded, on either side.
+     */
+    public static void rebuild()
+    {
+        final byte[] flags = new byte[Block.BLOCK_STATE_REGISTRY.size()];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            final int id = Block.getId(state);
+            if (id >= 0 && id < flags.length)
+            {
+                flags[id] = compute(state);
+            }
+        }
+        flagsById = flags;
+    }
+
+    private static byte compute(BlockState state)
+    {
+        byte flags = 0;
+        if (Helpers.isBlock(state, TFCTags.Blocks.CAN_LANDSLIDE))
+        {
+            flags |= LANDSLIDE;
+        }
+        if (Helpers.isBlock(state, TFCTags.Blocks.BREAKS_WHEN_ISOLATED))
+        {
+            flags |= ISOLATED;
+        }
+        return flags;
+    }
+}
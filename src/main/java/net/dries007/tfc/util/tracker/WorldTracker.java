@@ -10,6 +10,9 @@ import java.util.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
@@ -20,7 +23,9 @@ import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
@@ -32,6 +37,8 @@ import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendarTickable;
 import net.dries007.tfc.util.collections.BufferedList;
 import net.dries007.tfc.util.loot.TFCLoot;
 
@@ -41,21 +48,34 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
 
     private final LazyOptional<IWorldTracker> capability;
     private final BufferedList<TickEntry> landslideTicks;
+    private final LongSet pendingLandslides; // Positions in landslideTicks, as the same position may be notified many times before it is checked
     private final BufferedList<BlockPos> isolatedPositions;
     private final List<Collapse> collapsesInProgress;
+    private final Deque<PendingCalendarUpdate> pendingCalendarUpdates;
+    private final Map<ICalendarTickable, PendingCalendarUpdate> pendingCalendarTickables;
+    private final HydrationField hydrationField;
+    private int calendarUpdateBudget;
 
     public WorldTracker()
     {
         this.capability = LazyOptional.of(() -> this);
         this.landslideTicks = new BufferedList<>();
+        this.pendingLandslides = new LongOpenHashSet();
         this.isolatedPositions = new BufferedList<>();
         this.collapsesInProgress = new ArrayList<>();
+        this.pendingCalendarUpdates = new ArrayDeque<>();
+        this.pendingCalendarTickables = new Reference2ObjectOpenHashMap<>();
+        this.hydrationField = new HydrationField();
+        this.calendarUpdateBudget = 0;
     }
 
     @Override
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        if (pendingLandslides.add(pos.asLong()))
+        {
+            landslideTicks.add(new TickEntry(pos, 2));
+        }
     }
 
     @Override
@@ -90,10 +110,77 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         addCollapseData(new Collapse(centerPos, collapsePositions, maxRadiusSquared));
     }
 
+    @Override
+    public boolean deferCalendarUpdate(ICalendarTickable tickable, long ticks)
+    {
+        final PendingCalendarUpdate pending = pendingCalendarTickables.get(tickable);
+        if (pending != null)
+        {
+            // Already waiting. The last update tick is frozen while waiting, so the observed delta grows by one for each tick the entity ticked normally. Anything more is a further jump, which is added to the pending update.
+            pending.ticks += Math.max(0, ticks - pending.observedTicks - 1);
+            pending.observedTicks = ticks;
+            return true;
+        }
+        if (pendingCalendarUpdates.isEmpty() && calendarUpdateBudget > 0)
+        {
+            calendarUpdateBudget--;
+            return false; // Within budget, update immediately
+        }
+        final PendingCalendarUpdate update = new PendingCalendarUpdate(tickable, ticks);
+        pendingCalendarUpdates.add(update);
+        pendingCalendarTickables.put(tickable, update);
+        return true;
+    }
+
+    @Override
+    public int getPendingCalendarUpdates()
+    {
+        return pendingCalendarUpdates.size();
+    }
+
+    @Override
+    public void tickCalendarUpdates(Level level)
+    {
+        if (!level.isClientSide())
+        {
+            // The budget is refilled at the start of the tick, and what was not spent on immediate updates is spent here
+            while (calendarUpdateBudget > 0 && !pendingCalendarUpdates.isEmpty())
+            {
+                final PendingCalendarUpdate update = pendingCalendarUpdates.poll();
+                final BlockEntity entity = (BlockEntity) update.tickable();
+
+                pendingCalendarTickables.remove(update.tickable());
+                if (entity.isRemoved() || entity.getLevel() != level || !level.shouldTickBlocksAt(ChunkPos.asLong(entity.getBlockPos())))
+                {
+                    // Not ticking, so skip it. The last update tick has not been touched, so the discrepancy will be seen again if this entity does tick.
+                    continue;
+                }
+
+                // This runs after all block entities have ticked, so this is the same as if the entity had updated on this tick
+                update.tickable().onCalendarUpdate(update.ticks);
+                update.tickable().setLastUpdateTick(Calendars.SERVER.getTicks());
+                calendarUpdateBudget--;
+            }
+        }
+    }
+
+    @Override
+    public HydrationField getHydrationField()
+    {
+        return hydrationField;
+    }
+
     public void tick(Level level)
     {
         if (!level.isClientSide())
         {
+            calendarUpdateBudget = TFCConfig.SERVER.calendarUpdatesPerTick.get();
+
+            if (level.getGameTime() % HydrationField.CLEANUP_INTERVAL_TICKS == 0)
+            {
+                hydrationField.removeExpired(level.getGameTime());
+            }
+
             if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
             {
                 for (Collapse collapse : collapsesInProgress)
@@ -123,15 +210,20 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
                 collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
             }
 
+            // Every due entry is checked against the budget, whether it slides or not, so the cost of a tick is bounded. Once the budget is used up, the remaining entries are not ticked, and so wait until the following tick
+            int landslideBudget = TFCConfig.SERVER.landslidesPerTick.get();
             landslideTicks.flush();
             Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-            while (tickIterator.hasNext())
+            while (tickIterator.hasNext() && landslideBudget > 0)
             {
                 TickEntry entry = tickIterator.next();
                 if (entry.tick())
                 {
+                    // Removed first, as the land slide may notify this position again
+                    pendingLandslides.remove(entry.getPos().asLong());
                     final BlockState currentState = level.getBlockState(entry.getPos());
                     LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
+                    landslideBudget--;
                     tickIterator.remove();
                 }
             }
@@ -183,13 +275,18 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         if (nbt != null)
         {
             landslideTicks.clear();
+            pendingLandslides.clear();
             collapsesInProgress.clear();
             isolatedPositions.clear();
 
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                final TickEntry entry = new TickEntry(landslideNbt.getCompound(i));
+                if (pendingLandslides.add(entry.getPos().asLong()))
+                {
+                    landslideTicks.add(entry);
+                }
             }
 
             long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
@@ -221,4 +318,23 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         }
         return true;
     }
-}
\ No newline at end of file
+
+    private static final class PendingCalendarUpdate
+    {
+        private final ICalendarTickable tickable;
+        private long ticks; // The total delta to simulate, excluding ticks where the entity ticked normally
+        private long observedTicks; // The delta last observed by the entity
+
+        PendingCalendarUpdate(ICalendarTickable tickable, long ticks)
+        {
+            this.tickable = tickable;
+            this.ticks = ticks;
+            this.observedTicks = ticks;
+        }
+
+        ICalendarTickable tickable()
+        {
+            return tickable;
+        }
+    }
+}
@@ -6,9 +6,15 @@
 
 package net.dries007.tfc.world.biome;
 
+import java.util.Random;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.Climate;
 
 import net.dries007.tfc.world.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.settings.ClimateSettings;
@@ -22,6 +28,13 @@ public interface BiomeSourceExtension
 
     BiomeVariants getNoiseBiomeVariants(int quartX, int quartZ);
 
+    /**
+     * Like {@link BiomeSource#findBiomeHorizontal(int, int, int, int, int, Predicate, Random, boolean, Climate.Sampler)}, picking a random matching position, but only queries biome variants.
+     * This avoids any chunk data lookups, so it should be preferred for large searches (i.e. for the world spawn) whenever the predicate does not depend on climate.
+     */
+    @Nullable
+    BlockPos findBiomeIgnoreClimate(int blockX, int blockY, int blockZ, int maxRadius, int step, Predicate<BiomeVariants> variants, Random random);
+
     int getSpawnDistance();
 
     int getSpawnCenterX();
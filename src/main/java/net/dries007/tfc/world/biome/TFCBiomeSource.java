@@ -197,12 +197,30 @@ public class TFCBiomeSource extends BiomeSource implements BiomeSourceExtension,
     @Nullable
     public Pair<BlockPos, Holder<Biome>> findBiomeHorizontal(int blockX, int blockY, int blockZ, int maxRadius, int step, Predicate<Holder<Biome>> biome, Random random, boolean findClosest, @Nullable Climate.Sampler sampler)
     {
-        // todo: can we avoid querying getNoiseBiome and instead query getNoiseBiomeIgnoreClimate ? as it causes a chunk data lookup which we don't have
+        // Predicates on biomes may depend on climate, so this must query getNoiseBiome(), which requires a chunk data lookup. Where possible, prefer findBiomeIgnoreClimate()
+        return findHorizontal(blockX, blockY, blockZ, maxRadius, step, this::getNoiseBiome, biome, random, findClosest);
+    }
+
+    @Override
+    @Nullable
+    public BlockPos findBiomeIgnoreClimate(int blockX, int blockY, int blockZ, int maxRadius, int step, Predicate<BiomeVariants> variants, Random random)
+    {
+        final Pair<BlockPos, BiomeVariants> pair = findHorizontal(blockX, blockY, blockZ, maxRadius, step, this::getNoiseBiomeVariants, variants, random, false);
+        return pair == null ? null : pair.getFirst();
+    }
+
+    /**
+     * The search behind {@link #findBiomeHorizontal(int, int, int, int, int, Predicate, Random, boolean, Climate.Sampler)}, generic over what is sampled at each quart position.
+     * If not finding the closest, this picks uniformly between all matching positions (with reservoir sampling), so the random is consumed identically for any sampler that matches the same positions.
+     */
+    @Nullable
+    private <T> Pair<BlockPos, T> findHorizontal(int blockX, int blockY, int blockZ, int maxRadius, int step, QuartSampler<T> sampler, Predicate<T> predicate, Random random, boolean findClosest)
+    {
         final int minQuartX = QuartPos.fromBlock(blockX);
         final int minQuartZ = QuartPos.fromBlock(blockZ);
         final int maxQuartRadius = QuartPos.fromBlock(maxRadius);
 
-        Pair<BlockPos, Holder<Biome>> pair = null;
+        Pair<BlockPos, T> pair = null;
         int count = 0;
         for (int radius = findClosest ? 0 : maxQuartRadius; radius <= maxQuartRadius; radius += step)
         {
@@ -221,8 +239,8 @@ public class TFCBiomeSource extends BiomeSource implements BiomeSourceExtension,
                     }
 
                     final int x = minQuartX + dx, z = minQuartZ + dz;
-                    Holder<Biome> found = getNoiseBiome(x, z);
-                    if (biome.test(found))
+                    final T found = sampler.sample(x, z);
+                    if (predicate.test(found))
                     {
                         if (pair == null || random.nextInt(count + 1) == 0)
                         {
@@ -266,4 +284,10 @@ public class TFCBiomeSource extends BiomeSource implements BiomeSourceExtension,
         }
         return BiomeTemperature.NORMAL;
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    private interface QuartSampler<T>
+    {
+        T sample(int quartX, int quartZ);
+    }
+}
@@ -132,6 +132,16 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getValue((z & 15) / 16f, 1 - ((x & 15) / 16f));
     }
 
+    public float getMinRainfall()
+    {
+        return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getMin();
+    }
+
+    public float getMaxRainfall()
+    {
+        return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getMax();
+    }
+
     public void setRainfall(LerpFloatLayer rainfallLayer)
     {
         this.rainfallLayer = rainfallLayer;
@@ -147,6 +157,16 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getValue((z & 15) / 16f, 1 - ((x & 15) / 16f));
     }
 
+    public float getMinAverageTemp()
+    {
+        return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getMin();
+    }
+
+    public float getMaxAverageTemp()
+    {
+        return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getMax();
+    }
+
     public void setAverageTemp(LerpFloatLayer temperatureLayer)
     {
         this.temperatureLayer = temperatureLayer;
@@ -54,6 +54,22 @@ public class LerpFloatLayer
         return Helpers.lerp4(valueNE, valueNW, valueSE, valueSW, tNS, tEW);
     }
 
+    /**
+     * @return The minimum value anywhere within the grid. As the values are interpolated, this is the minimum of the corners.
+     */
+    public float getMin()
+    {
+        return Math.min(Math.min(valueNW, valueNE), Math.min(valueSW, valueSE));
+    }
+
+    /**
+     * @return The maximum value anywhere within the grid. As the values are interpolated, this is the maximum of the corners.
+     */
+    public float getMax()
+    {
+        return Math.max(Math.max(valueNW, valueNE), Math.max(valueSW, valueSE));
+    }
+
     public CompoundTag write()
     {
         final CompoundTag nbt = new CompoundTag();
@@ -6,10 +6,6 @@
 
 package net.dries007.tfc.world.feature;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Set;
-
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.material.Fluid;
@@ -21,6 +17,10 @@ import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.feature.Feature;
 
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.dries007.tfc.common.blocks.soil.IGrassBlock;
 import net.dries007.tfc.common.blocks.wood.ILeavesBlock;
 
@@ -46,7 +46,7 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
         final ChunkPos chunkPos = new ChunkPos(pos);
         final BoundingBox box = new BoundingBox(chunkPos.getMinBlockX() - 14, Integer.MIN_VALUE, chunkPos.getMinBlockZ() - 14, chunkPos.getMaxBlockX() + 14, Integer.MAX_VALUE, chunkPos.getMaxBlockZ() + 14); // Leeway so we can check outside this box
 
-        final Set<BlockPos> filled = new HashSet<>();
+        final LongSet filled = new LongOpenHashSet();
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 
         // First, make sure we're currently at the lowest point in the column.
@@ -66,14 +66,17 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
             // Minimum size, don't fill awkward tiny lakes
             if (filled.size() >= 20)
             {
-                for (BlockPos filledPos : filled)
+                final LongIterator iterator = filled.iterator();
+                while (iterator.hasNext())
                 {
-                    worldIn.setBlock(filledPos, fill, 2);
-                    worldIn.scheduleTick(filledPos, fluid, 0);
+                    final long filledPos = iterator.nextLong();
+                    final BlockPos placePos = BlockPos.of(filledPos);
+                    worldIn.setBlock(placePos, fill, 2);
+                    worldIn.scheduleTick(placePos, fluid, 0);
 
                     // If we're at the bottom
                     mutablePos.set(filledPos).move(0, -1, 0);
-                    if (!filled.contains(mutablePos))
+                    if (!filled.contains(mutablePos.asLong()))
                     {
                         BlockState stateDown = worldIn.getBlockState(mutablePos);
                         if (stateDown.getBlock() instanceof IGrassBlock)
@@ -89,9 +92,13 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
         return false;
     }
 
-    private boolean floodFill(WorldGenLevel worldIn, BlockPos startPos, BoundingBox box, Set<BlockPos> filled, BlockPos.MutableBlockPos mutablePos, FloodFillLakeConfig config)
+    /**
+     * Positions are stored packed as longs, see {@link BlockPos#asLong()}.
+     */
+    private boolean floodFill(WorldGenLevel worldIn, BlockPos startPos, BoundingBox box, LongSet filled, BlockPos.MutableBlockPos mutablePos, FloodFillLakeConfig config)
     {
-        boolean result = floodFillLayer(worldIn, startPos, box, filled, mutablePos, config);
+        final LongArrayList layer = new LongArrayList();
+        boolean result = floodFillLayer(worldIn, startPos, box, filled, layer, mutablePos, config);
         if (!result)
         {
             return false; // Failed the initial flood fill, exit early
@@ -102,13 +109,21 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
         }
 
         // Initial result is valid, overfill upwards
-        Set<BlockPos> nextFilled = new HashSet<>(filled);
+        // Each layer is filled directly into the set, and if it fails, only the positions it added are removed again
         startPos = startPos.above();
         int prevSize = filled.size();
 
-        while (floodFillLayer(worldIn, startPos, box, nextFilled, mutablePos, config))
+        while (true)
         {
-            filled.addAll(nextFilled);
+            layer.clear();
+            if (!floodFillLayer(worldIn, startPos, box, filled, layer, mutablePos, config))
+            {
+                for (int i = 0; i < layer.size(); i++)
+                {
+                    filled.remove(layer.getLong(i));
+                }
+                return true;
+            }
             if (prevSize == filled.size())
             {
                 // The last move upwards added no new filled area. We abort here to not endlessly advance upwards
@@ -116,10 +131,12 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
             }
             startPos = startPos.above();
         }
-        return true;
     }
 
-    private boolean floodFillLayer(WorldGenLevel worldIn, BlockPos startPos, BoundingBox box, Set<BlockPos> filled, BlockPos.MutableBlockPos mutablePos, FloodFillLakeConfig config)
+    /**
+     * @param layer Records every position added to {@code filled} by this layer. It is also used as the stack of positions left to visit.
+     */
+    private boolean floodFillLayer(WorldGenLevel worldIn, BlockPos startPos, BoundingBox box, LongSet filled, LongArrayList layer, BlockPos.MutableBlockPos mutablePos, FloodFillLakeConfig config)
     {
         // First check the start position, this must be fillable
         if (!isFloodFillable(worldIn.getBlockState(startPos), config))
@@ -127,19 +144,24 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
             return false;
         }
 
-        final LinkedList<BlockPos> queue = new LinkedList<>();
         final Direction[] directions = Direction.values();
         final int maximumY = startPos.getY();
-        filled.add(startPos);
-        queue.addFirst(startPos);
+        final int layerStart = layer.size();
+        if (filled.add(startPos.asLong()))
+        {
+            layer.add(startPos.asLong());
+        }
 
-        while (!queue.isEmpty())
+        // Positions in layer[layerStart, visited) have been visited, and the remainder are still to be visited
+        int visited = layerStart;
+        while (visited < layer.size())
         {
-            BlockPos posAt = queue.removeFirst();
+            final long posAt = layer.getLong(visited++);
             for (Direction direction : directions)
             {
                 mutablePos.set(posAt).move(direction);
-                if (!filled.contains(mutablePos) && mutablePos.getY() <= maximumY)
+                final long posNext = mutablePos.asLong();
+                if (mutablePos.getY() <= maximumY && !filled.contains(posNext))
                 {
                     final BlockState stateAt = worldIn.getBlockState(mutablePos);
                     if (isFloodFillable(stateAt, config))
@@ -147,9 +169,8 @@ public class FloodFillLakeFeature extends Feature<FloodFillLakeConfig>
                         if (box.isInside(mutablePos))
                         {
                             // Valid flood fill location
-                            BlockPos posNext = mutablePos.immutable();
-                            queue.addFirst(posNext);
                             filled.add(posNext);
+                            layer.add(posNext);
                         }
                         else
                         {
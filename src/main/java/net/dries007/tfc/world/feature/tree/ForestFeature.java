@@ -56,6 +56,8 @@ public class ForestFeature extends Feature<ForestConfig>
 
         if (rand.nextFloat() > typeConfig.perChunkChance()) return false;
 
+        final Candidates candidates = new Candidates(config);
+
         int treeCount = typeConfig.treeCount().sample(rand);
         final int groundCount = typeConfig.groundcoverCount().sample(rand);
         final int bushCount = typeConfig.sampleBushCount(rand, typeConfig.bushCount(), treeCount, density);
@@ -66,21 +68,21 @@ public class ForestFeature extends Feature<ForestConfig>
         treeCount = (int) (treeCount * (0.6f + 0.9f * density));
         for (int i = 0; i < treeCount; i++)
         {
-            placedTrees |= placeTree(level, context.chunkGenerator(), rand, pos, config, data, mutablePos, typeConfig);
+            placedTrees |= placeTree(level, context.chunkGenerator(), rand, pos, candidates, data, mutablePos, typeConfig);
         }
         for (int j = 0; j < bushCount; j++)
         {
-            placedBushes |= placeBush(level, rand, pos, config, data, mutablePos);
+            placedBushes |= placeBush(level, rand, pos, candidates, data, mutablePos);
         }
         if (placedTrees)
         {
-            placeGroundcover(level, rand, pos, config, data, mutablePos, groundCount);
-            placeFallenTree(level, rand, pos, config, data, mutablePos);
+            placeGroundcover(level, rand, pos, candidates, data, mutablePos, groundCount);
+            placeFallenTree(level, rand, pos, candidates, data, mutablePos);
         }
         return placedTrees || placedBushes;
     }
 
-    private boolean placeTree(WorldGenLevel level, ChunkGenerator generator, Random random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, ForestConfig.Type typeConfig)
+    private boolean placeTree(WorldGenLevel level, ChunkGenerator generator, Random random, BlockPos chunkBlockPos, Candidates candidates, ChunkData data, BlockPos.MutableBlockPos mutablePos, ForestConfig.Type typeConfig)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -88,7 +90,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.WORLD_SURFACE_WG, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos);
+        final ForestConfig.Entry entry = getTree(data, random, candidates, mutablePos);
         if (entry != null)
         {
             ConfiguredFeature<?, ?> feature;
@@ -114,7 +116,7 @@ public class ForestFeature extends Feature<ForestConfig>
         return false;
     }
 
-    private boolean placeBush(WorldGenLevel level, Random random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos)
+    private boolean placeBush(WorldGenLevel level, Random random, BlockPos chunkBlockPos, Candidates candidates, ChunkData data, BlockPos.MutableBlockPos mutablePos)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -122,7 +124,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.WORLD_SURFACE_WG, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos);
+        final ForestConfig.Entry entry = getTree(data, random, candidates, mutablePos);
         if (entry != null && EnvironmentHelpers.canPlaceBushOn(level, mutablePos))
         {
             entry.bushLog().ifPresent(log -> entry.bushLeaves().ifPresent(leaves -> {
@@ -163,7 +165,7 @@ public class ForestFeature extends Feature<ForestConfig>
         }
     }
 
-    private void placeGroundcover(WorldGenLevel level, Random random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, int tries)
+    private void placeGroundcover(WorldGenLevel level, Random random, BlockPos chunkBlockPos, Candidates candidates, ChunkData data, BlockPos.MutableBlockPos mutablePos, int tries)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -171,7 +173,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.OCEAN_FLOOR, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos);
+        final ForestConfig.Entry entry = getTree(data, random, candidates, mutablePos);
         if (entry != null)
         {
             entry.groundcover().ifPresent(groundcover -> {
@@ -192,7 +194,7 @@ public class ForestFeature extends Feature<ForestConfig>
         }
     }
 
-    private void placeFallenTree(WorldGenLevel level, Random random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos)
+    private void placeFallenTree(WorldGenLevel level, Random random, BlockPos chunkBlockPos, Candidates candidates, ChunkData data, BlockPos.MutableBlockPos mutablePos)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -205,7 +207,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.move(Direction.UP);
         if (Helpers.isBlock(downState, TFCTags.Blocks.BUSH_PLANTABLE_ON) || Helpers.isBlock(downState, TFCTags.Blocks.SEA_BUSH_PLANTABLE_ON))
         {
-            final ForestConfig.Entry entry = getTree(data, random, config, mutablePos);
+            final ForestConfig.Entry entry = getTree(data, random, candidates, mutablePos);
             if (entry != null)
             {
                 final int fallChance = entry.fallenChance();
@@ -271,52 +273,86 @@ public class ForestFeature extends Feature<ForestConfig>
     }
 
     @Nullable
-    private ForestConfig.Entry getTree(ChunkData chunkData, Random random, ForestConfig config, BlockPos pos)
+    private ForestConfig.Entry getTree(ChunkData chunkData, Random random, Candidates candidates, BlockPos pos)
+    {
+        return candidates.select(chunkData.getAverageTemp(pos), chunkData.getRainfall(pos), chunkData.getForestWeirdness(), random);
+    }
+
+    /**
+     * The tree entries of a single {@link ForestConfig}, unwrapped once per placement and reused for every tree, bush, groundcover and fallen tree that is placed.
+     * Selection still depends on the exact temperature and rainfall at each position, which vary within a chunk, so only the config dependent work is shared.
+     */
+    static final class Candidates
     {
-        List<ForestConfig.Entry> entries = new ArrayList<>(4);
-        float rainfall = chunkData.getRainfall(pos);
-        float averageTemperature = chunkData.getAverageTemp(pos);
-        config.entries().stream().map(configuredFeature -> configuredFeature.value().config()).map(cfg -> (ForestConfig.Entry) cfg).forEach(entry -> {
-            // silly way to halfway guarantee that stuff is in general order of dominance
-            float lastRain = entry.getAverageRain();
-            float lastTemp = entry.getAverageTemp();
-            if (entry.isValid(averageTemperature, rainfall))
+        private final ForestConfig.Entry[] entries;
+        private final float[] distancesFromOwnMean;
+        private final boolean useWeirdness;
+        private final List<ForestConfig.Entry> ordered;
+
+        Candidates(ForestConfig config)
+        {
+            this(config.entries().stream().map(configuredFeature -> (ForestConfig.Entry) configuredFeature.value().config()).toArray(ForestConfig.Entry[]::new), config.useWeirdness());
+        }
+
+        Candidates(ForestConfig.Entry[] entries, boolean useWeirdness)
+        {
+            this.entries = entries;
+            this.distancesFromOwnMean = new float[entries.length];
+            this.useWeirdness = useWeirdness;
+            this.ordered = new ArrayList<>(entries.length);
+
+            for (int i = 0; i < entries.length; i++)
             {
-                if (entry.distanceFromMean(lastTemp, lastRain) < entry.distanceFromMean(averageTemperature, rainfall))
-                {
-                    entries.add(entry); // if the last one was closer to it's target, just add it normally
-                }
-                else
-                {
-                    entries.add(0, entry); // if the new one is closer, stick it in front
-                }
+                final ForestConfig.Entry entry = entries[i];
+                distancesFromOwnMean[i] = entry.distanceFromMean(entry.getAverageTemp(), entry.getAverageRain());
             }
-        });
+        }
 
-        if (entries.isEmpty()) return null;
-        if (config.useWeirdness())
+        @Nullable
+        ForestConfig.Entry select(float averageTemperature, float rainfall, float weirdness, Random random)
         {
-            // remove up to 3 entries from the config based on weirdness, less likely to happen each time
-            float weirdness = chunkData.getForestWeirdness();
-            Collections.rotate(entries, -(int) (weirdness * (entries.size() - 1f)));
-            for (int i = 1; i >= -1; i--)
+            final List<ForestConfig.Entry> entries = ordered;
+            entries.clear();
+            for (int i = 0; i < this.entries.length; i++)
             {
-                if (entries.size() <= 1)
-                    break;
-                if (random.nextFloat() > weirdness - (0.15f * i) + 0.1f)
+                // silly way to halfway guarantee that stuff is in general order of dominance
+                final ForestConfig.Entry entry = this.entries[i];
+                if (entry.isValid(averageTemperature, rainfall))
                 {
-                    entries.remove(entries.size() - 1);
+                    if (distancesFromOwnMean[i] < entry.distanceFromMean(averageTemperature, rainfall))
+                    {
+                        entries.add(entry); // if the last one was closer to it's target, just add it normally
+                    }
+                    else
+                    {
+                        entries.add(0, entry); // if the new one is closer, stick it in front
+                    }
                 }
             }
-        }
 
+            if (entries.isEmpty()) return null;
+            if (useWeirdness)
+            {
+                // remove up to 3 entries from the config based on weirdness, less likely to happen each time
+                Collections.rotate(entries, -(int) (weirdness * (entries.size() - 1f)));
+                for (int i = 1; i >= -1; i--)
+                {
+                    if (entries.size() <= 1)
+                        break;
+                    if (random.nextFloat() > weirdness - (0.15f * i) + 0.1f)
+                    {
+                        entries.remove(entries.size() - 1);
+                    }
+                }
+            }
 
-        int index = 0;
-        while (index < entries.size() - 1 && random.nextFloat() < 0.6f)
-        {
-            index++;
+            int index = 0;
+            while (index < entries.size() - 1 && random.nextFloat() < 0.6f)
+            {
+                index++;
+            }
+            return entries.get(index);
         }
-        return entries.get(index);
     }
 
     /**
@@ -80,6 +80,16 @@ public class ClimatePlacement extends PlacementModifier
         return false;
     }
 
+    /**
+     * Checks if this climate could be valid anywhere within the chunk, without needing a position or random.
+     * If this returns {@code false}, then {@link #isValid(ChunkData, BlockPos, Random)} will be {@code false} for every position in the chunk.
+     */
+    public boolean isValidAnywhere(ChunkData data)
+    {
+        final ForestType forestType = data.getForestType();
+        return minTemp <= data.getMaxAverageTemp() && data.getMinAverageTemp() <= maxTemp && minRainfall <= data.getMaxRainfall() && data.getMinRainfall() <= maxRainfall && minForest.ordinal() <= forestType.ordinal() && forestType.ordinal() <= maxForest.ordinal();
+    }
+
     @Override
     public Stream<BlockPos> getPositions(PlacementContext context, Random random, BlockPos pos)
     {
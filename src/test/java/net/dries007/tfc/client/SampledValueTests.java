@@ -0,0 +1,51 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SampledValueTests
+{
+    @Test
+    public void testSampledOncePerTickAndPosition()
+    {
+        final SampledValue<Integer> value = new SampledValue<>();
+        final int[] samples = {0};
+        final Supplier<Integer> sampler = () -> ++samples[0];
+
+        // Many frames at the same position only sample once
+        for (int frame = 0; frame < 10; frame++)
+        {
+            assertEquals(1, value.get(5L, sampler));
+        }
+        assertEquals(1, samples[0]);
+
+        // Moving to a new position samples again, as does moving back
+        assertEquals(2, value.get(6L, sampler));
+        assertEquals(2, value.get(6L, sampler));
+        assertEquals(3, value.get(5L, sampler));
+
+        // A client tick invalidates the value, even at the same position
+        value.invalidate();
+        assertEquals(4, value.get(5L, sampler));
+        assertEquals(4, value.get(5L, sampler));
+        assertEquals(4, samples[0]);
+    }
+
+    @Test
+    public void testInvalidateBeforeFirstSample()
+    {
+        final SampledValue<String> value = new SampledValue<>();
+        value.invalidate();
+        assertEquals("a", value.get(0L, () -> "a"));
+        assertEquals("a", value.get(0L, () -> "b"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.crop;
+
+import net.dries007.tfc.TestBase;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.common.blocks.crop.CropHelpers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fixed cases for {@link CropGrowthModel}, with expected values computed by hand.
+ * Each case is a single full update interval (two days) with a growth modifier of 1, which is 1/12 growth from time, and consumes up to 1/6 of the primary nutrient, which is up to another 1/12 growth.
+ * The crop grows between 10 and 20 degrees, and is healthy between 5 and 25 degrees.
+ */
+public class CropGrowthModelTests extends TestBase
+{
+    static final float GROWING = 15f, HEALTHY = 22f, UNHEALTHY = 30f;
+
+    @Test
+    public void testGrowthWithFullNutrients()
+    {
+        final float[] nutrients = {1, 0, 0};
+        final CropGrowthModel model = model(0, 0, nutrients);
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(1f / 6, model.getGrowth(), 1e-6f);
+        assertEquals(0, model.getExpiry(), 1e-6f);
+        assertEquals(1f / 30, model.getYield(), 1e-6f); // All growth allocated, so satisfaction is zero, and yield is 1/6 * 0.2
+        assertArrayEquals(new float[] {5f / 6, 1f / 36, 1f / 36}, nutrients, 1e-6f);
+    }
+
+    @Test
+    public void testGrowthWithoutNutrients()
+    {
+        final float[] nutrients = {0, 0.5f, 0.5f};
+        final CropGrowthModel model = model(0, 0, nutrients);
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(1f / 12, model.getGrowth(), 1e-6f);
+        assertEquals(0, model.getExpiry(), 1e-6f);
+        assertEquals(1f / 60, model.getYield(), 1e-6f);
+        assertArrayEquals(new float[] {0, 0.5f, 0.5f}, nutrients, 1e-6f);
+    }
+
+    @Test
+    public void testGrowthModifierScalesTimeGrowthOnly()
+    {
+        final CropGrowthModel model = model(0, 0, new float[] {0, 0, 0});
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1.1f));
+        assertEquals(1.1f / 12, model.getGrowth(), 1e-6f);
+    }
+
+    @Test
+    public void testGrowthSplitAcrossLimitIntoExpiry()
+    {
+        // Total growth is 1/12 + 0.05 * 0.5 = 0.108333, of which 0.1 reaches the limit and 1/120 is left over to expiry.
+        // Satisfaction is (1/120 / 0.1) * (0.05 / (1/6)) = 0.025, so yield is 0.1 * lerp(0.025, 0.2, 1) = 0.022
+        final float[] nutrients = {0.05f, 0, 0};
+        final CropGrowthModel model = model(0.9f, 0, nutrients);
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(1f, model.getGrowth(), 1e-6f);
+        assertEquals(1f / 120, model.getExpiry(), 1e-6f);
+        assertEquals(0.022f, model.getYield(), 1e-6f);
+        assertArrayEquals(new float[] {0, 1f / 120, 1f / 120}, nutrients, 1e-6f);
+    }
+
+    @Test
+    public void testFullyGrownCropOnlyExpires()
+    {
+        final CropGrowthModel model = model(1, 0.5f, new float[] {0, 0, 0});
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(1f, model.getGrowth(), 1e-6f);
+        assertEquals(0.5f + 1f / 12, model.getExpiry(), 1e-6f);
+        assertEquals(0, model.getYield(), 1e-6f);
+    }
+
+    @Test
+    public void testHealthyButNotGrowingOnlyExpires()
+    {
+        // Only the end temperature is outside the growing range, which is enough to stop growth
+        final float[] nutrients = {1, 0, 0};
+        final CropGrowthModel model = model(0.2f, 0, nutrients);
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, HEALTHY, 1f));
+        assertEquals(0.2f, model.getGrowth(), 1e-6f);
+        assertEquals(1f / 6, model.getExpiry(), 1e-6f);
+        assertEquals(0, model.getYield(), 1e-6f);
+        assertArrayEquals(new float[] {5f / 6, 1f / 36, 1f / 36}, nutrients, 1e-6f); // Nutrients are consumed regardless
+    }
+
+    @Test
+    public void testUnhealthyTemperatureKills()
+    {
+        assertFalse(model(0, 0, new float[] {0, 0, 0}).step(UPDATE_INTERVAL, UNHEALTHY, GROWING, 1f));
+        assertFalse(model(0, 0, new float[] {0, 0, 0}).step(UPDATE_INTERVAL, GROWING, UNHEALTHY, 1f));
+    }
+
+    @Test
+    public void testUnhealthyHydrationKills()
+    {
+        final CropGrowthModel model = new CropGrowthModel(10, 20, 5, 25, false, false, GROWTH_LIMIT, 0, 0, 0, 0, new float[] {0, 0, 0});
+
+        assertFalse(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+    }
+
+    @Test
+    public void testReachingExpiryLimitKills()
+    {
+        final CropGrowthModel model = model(1, EXPIRY_LIMIT - 0.05f, new float[] {0, 0, 0});
+
+        assertFalse(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(EXPIRY_LIMIT, model.getExpiry(), 1e-6f);
+    }
+
+    @Test
+    public void testPartialIntervalScalesGrowthAndConsumption()
+    {
+        final float[] nutrients = {1, 0, 0};
+        final CropGrowthModel model = model(0, 0, nutrients);
+
+        assertTrue(model.step(UPDATE_INTERVAL / 4, GROWING, GROWING, 1f));
+        assertEquals(1f / 24, model.getGrowth(), 1e-6f);
+        assertArrayEquals(new float[] {1 - 1f / 24, 1f / 144, 1f / 144}, nutrients, 1e-6f);
+    }
+
+    @Test
+    public void testStepsAccumulate()
+    {
+        // Three intervals, of which the middle is too warm to grow. Growth is 1/12 + 0 + 1/12, and expiry is 1/12 from the middle interval
+        final CropGrowthModel model = model(0, 0, new float[] {0, 0, 0});
+
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, HEALTHY, 1f));
+        assertTrue(model.step(UPDATE_INTERVAL, GROWING, GROWING, 1f));
+        assertEquals(1f / 6, model.getGrowth(), 1e-6f);
+        assertEquals(1f / 12, model.getExpiry(), 1e-6f);
+        assertEquals(1f / 30, model.getYield(), 1e-6f);
+    }
+
+    private CropGrowthModel model(float growth, float expiry, float[] nutrients)
+    {
+        return new CropGrowthModel(10, 20, 5, 25, true, true, GROWTH_LIMIT, 0, growth, 0, expiry, nutrients);
+    }
+}
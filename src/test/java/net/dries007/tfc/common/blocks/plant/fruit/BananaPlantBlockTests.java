@@ -0,0 +1,151 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.dries007.tfc.TestBase;
+import net.dries007.tfc.util.calendar.ICalendar;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares {@link BananaPlantBlock#simulateTrunk} against the original inline loop of {@code BananaPlantBlock#onUpdate}, which queried the world on every monthly step.
+ */
+public class BananaPlantBlockTests extends TestBase
+{
+    @Test
+    public void testTrunkCatchUpOverAFullYear()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        int reachedFullStage = 0, grewAbove = 0;
+        for (int iteration = 0; iteration < 500; iteration++)
+        {
+            final LifecycleFixture fixture = LifecycleFixture.create(random);
+            final int initialStage = random.nextInt(2);
+            final Lifecycle initialLifecycle = random.nextBoolean() ? Lifecycle.HEALTHY : Lifecycle.values()[random.nextInt(4)];
+            final long deltaTicks = ICalendar.getCalendarTicksInYear(fixture.daysInMonth()); // A full cycle, which is the maximum catch-up
+            final boolean branchAbove = random.nextInt(4) == 0, tall = random.nextInt(3) == 0, sky = random.nextInt(5) != 0;
+
+            final Random expectedRandom = fixture.growthRandom(), actualRandom = fixture.growthRandom();
+
+            final Column expectedColumn = new Column(branchAbove, tall, sky), actualColumn = new Column(branchAbove, tall, sky);
+            final BananaPlantBlock.TrunkGrowth expected = stepwise(initialStage, initialLifecycle, deltaTicks, fixture, expectedRandom, expectedColumn);
+            final BananaPlantBlock.TrunkGrowth actual = BananaPlantBlock.simulateTrunk(initialStage, initialLifecycle, fixture.currentCalendarTick(), deltaTicks, fixture.daysInMonth(), fixture::lifecycleForMonth, fixture::validClimateAt, actualRandom, actualColumn);
+
+            final String message = "Seed: " + seed + " iteration " + iteration;
+            assertEquals(expected, actual, message);
+            assertEquals(expectedColumn.grown, actualColumn.grown, message);
+            assertEquals(expectedRandom.nextLong(), actualRandom.nextLong(), message);
+            assertTrue(actualColumn.reads <= expectedColumn.reads, message);
+
+            if (expected.stage() == 2 && initialStage < 2) reachedFullStage++;
+            if (!expectedColumn.grown.isEmpty()) grewAbove++;
+        }
+
+        // Make sure the interesting cases were covered: growing across the stage boundary, and placing blocks above
+        assertTrue(reachedFullStage > 0, "Seed: " + seed);
+        assertTrue(grewAbove > 0, "Seed: " + seed);
+    }
+
+    /**
+     * The original implementation, with the world queries replaced by the same {@link Column}.
+     */
+    private BananaPlantBlock.TrunkGrowth stepwise(int stage, Lifecycle currentLifecycle, long deltaTicks, LifecycleFixture fixture, Random random, Column column)
+    {
+        final long currentCalendarTick = fixture.currentCalendarTick();
+        final int daysInMonth = fixture.daysInMonth();
+        long nextCalendarTick = currentCalendarTick - deltaTicks;
+        do
+        {
+            nextCalendarTick = Math.min(nextCalendarTick + ICalendar.getCalendarTicksInMonth(daysInMonth), currentCalendarTick);
+            if (currentLifecycle.active() && stage < 2)
+            {
+                if (!column.isBranchAbove() && (random.nextInt(4) == 0 || column.isTall()))
+                {
+                    stage++;
+                }
+            }
+
+            Lifecycle lifecycleAtNextTick = fixture.lifecycleAt(nextCalendarTick);
+            if (fixture.validClimateAt(nextCalendarTick))
+            {
+                currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
+            }
+            else
+            {
+                currentLifecycle = Lifecycle.DORMANT;
+            }
+            if (stage < 2 && currentLifecycle.active())
+            {
+                currentLifecycle = Lifecycle.HEALTHY;
+            }
+
+            if (stage < 2 && currentLifecycle.active())
+            {
+                if (column.canGrowAbove())
+                {
+                    column.growAbove(stage, currentLifecycle, nextCalendarTick);
+                }
+            }
+        }
+        while (nextCalendarTick < currentCalendarTick);
+        return new BananaPlantBlock.TrunkGrowth(stage, currentLifecycle);
+    }
+
+    /**
+     * A column of blocks around a trunk. The block above is either a branch, empty, or empty and unable to see the sky.
+     */
+    static class Column implements BananaPlantBlock.TrunkColumn
+    {
+        final List<String> grown = new ArrayList<>();
+        final boolean tall, sky;
+        boolean branchAbove;
+        int reads;
+
+        Column(boolean branchAbove, boolean tall, boolean sky)
+        {
+            this.branchAbove = branchAbove;
+            this.tall = tall;
+            this.sky = sky;
+        }
+
+        @Override
+        public boolean isBranchAbove()
+        {
+            reads++;
+            return branchAbove;
+        }
+
+        @Override
+        public boolean isTall()
+        {
+            reads++;
+            return tall;
+        }
+
+        @Override
+        public boolean canGrowAbove()
+        {
+            reads++;
+            return !branchAbove && sky;
+        }
+
+        @Override
+        public void growAbove(int stage, Lifecycle lifecycle, long calendarTick)
+        {
+            grown.add(stage + " " + lifecycle + " " + calendarTick);
+            branchAbove = true;
+        }
+    }
+}
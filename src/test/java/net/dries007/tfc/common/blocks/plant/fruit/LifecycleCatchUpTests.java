@@ -0,0 +1,105 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.Random;
+
+import net.dries007.tfc.TestBase;
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.util.calendar.ICalendar;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@link LifecycleCatchUp} against the original inline month-by-month loop of {@link StationaryBerryBushBlock}, including the random stage growth which is now applied after the catch-up.
+ */
+public class LifecycleCatchUpTests extends TestBase
+{
+    @Test
+    public void testOneDay()
+    {
+        testCatchUpMatchesStepwiseModel(1);
+    }
+
+    @Test
+    public void testThirtyDays()
+    {
+        testCatchUpMatchesStepwiseModel(30);
+    }
+
+    @Test
+    public void testOneYear()
+    {
+        testCatchUpMatchesStepwiseModel(365);
+    }
+
+    private void testCatchUpMatchesStepwiseModel(int daysUnloaded)
+    {
+        final long seed = TestHelper.seed();
+        final Random random = new Random(seed);
+        for (int iteration = 0; iteration < 200; iteration++)
+        {
+            final LifecycleFixture fixture = LifecycleFixture.create(random);
+            final int daysInMonth = fixture.daysInMonth();
+            final long currentCalendarTick = fixture.currentCalendarTick();
+            final Lifecycle initial = Lifecycle.values()[random.nextInt(4)];
+            final long deltaTicks = Math.min((long) daysUnloaded * ICalendar.TICKS_IN_DAY, ICalendar.getCalendarTicksInYear(daysInMonth));
+
+            final Random expectedRandom = fixture.growthRandom(), actualRandom = fixture.growthRandom();
+
+            // Expected
+            Lifecycle expectedLifecycle = initial;
+            long nextCalendarTick = currentCalendarTick - deltaTicks;
+            int expectedStagesGrown = 0, expectedMonthsSpentDying = 0;
+            do
+            {
+                nextCalendarTick = Math.min(nextCalendarTick + ICalendar.getCalendarTicksInMonth(daysInMonth), currentCalendarTick);
+                if (expectedLifecycle.active() && expectedRandom.nextInt(3) == 0)
+                {
+                    expectedStagesGrown++;
+                }
+
+                final Lifecycle lifecycleAtNextTick = fixture.lifecycleAt(nextCalendarTick);
+                if (fixture.validClimateAt(nextCalendarTick))
+                {
+                    expectedLifecycle = expectedLifecycle.advanceTowards(lifecycleAtNextTick);
+                }
+                else
+                {
+                    expectedLifecycle = Lifecycle.DORMANT;
+                }
+
+                if (lifecycleAtNextTick != Lifecycle.DORMANT && expectedLifecycle == Lifecycle.DORMANT)
+                {
+                    expectedMonthsSpentDying++;
+                }
+                else
+                {
+                    expectedMonthsSpentDying = 0;
+                }
+            } while (nextCalendarTick < currentCalendarTick);
+
+            // Actual
+            final LifecycleCatchUp.Result result = LifecycleCatchUp.simulate(initial, currentCalendarTick, deltaTicks, daysInMonth, fixture::lifecycleForMonth, fixture::validClimateAt);
+            int actualStagesGrown = 0;
+            for (int i = 0; i < result.activeMonths(); i++)
+            {
+                if (actualRandom.nextInt(3) == 0)
+                {
+                    actualStagesGrown++;
+                }
+            }
+
+            final String message = "Seed: " + seed + " iteration " + iteration;
+            assertEquals(expectedLifecycle, result.lifecycle(), message);
+            assertEquals(expectedMonthsSpentDying, result.monthsSpentDying(), message);
+            assertEquals(expectedStagesGrown, actualStagesGrown, message);
+            assertEquals(expectedRandom.nextLong(), actualRandom.nextLong(), message);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.Random;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.calendar.Month;
+
+/**
+ * A random seasonal plant and calendar, for comparing lifecycle catch-ups against their original stepwise loops.
+ * Each plant has a random lifecycle per month, and a climate which is valid for some random months.
+ *
+ * @param growthSeed Seeds an identical random for each side of a comparison, see {@link #growthRandom()}.
+ */
+record LifecycleFixture(int daysInMonth, Lifecycle[] stages, boolean[] validMonths, long currentCalendarTick, long growthSeed)
+{
+    static LifecycleFixture create(Random random)
+    {
+        final int daysInMonth = 1 + random.nextInt(30);
+        final Lifecycle[] stages = new Lifecycle[12];
+        for (int i = 0; i < stages.length; i++)
+        {
+            stages[i] = Lifecycle.values()[random.nextInt(4)];
+        }
+        final boolean[] validMonths = new boolean[12];
+        for (int i = 0; i < validMonths.length; i++)
+        {
+            validMonths[i] = random.nextInt(4) != 0;
+        }
+        final long currentCalendarTick = random.nextInt(100) * ICalendar.getCalendarTicksInYear(daysInMonth) + random.nextInt(ICalendar.TICKS_IN_DAY * 400);
+        return new LifecycleFixture(daysInMonth, stages, validMonths, currentCalendarTick, random.nextLong());
+    }
+
+    Lifecycle lifecycleForMonth(Month month)
+    {
+        return stages[month.ordinal()];
+    }
+
+    Lifecycle lifecycleAt(long calendarTick)
+    {
+        return lifecycleForMonth(ICalendar.getMonthOfYear(calendarTick, daysInMonth));
+    }
+
+    boolean validClimateAt(long calendarTick)
+    {
+        return validMonths[ICalendar.getMonthOfYear(calendarTick, daysInMonth).ordinal()];
+    }
+
+    Random growthRandom()
+    {
+        return new Random(growthSeed);
+    }
+}
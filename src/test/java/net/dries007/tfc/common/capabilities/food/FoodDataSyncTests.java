@@ -0,0 +1,55 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.food;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FoodDataSyncTests
+{
+    @Test
+    public void testIdleMinuteOnlySendsResyncs()
+    {
+        final FoodDataSync sync = new FoodDataSync();
+        final float[] nutrients = {0.5f, 0.5f, 0.5f, 0.5f, 0f};
+        final int ticks = 20 * 60;
+
+        int sent = 0;
+        for (int tick = 0; tick < ticks; tick++)
+        {
+            if (sync.update(nutrients, 80f))
+            {
+                sent++;
+            }
+        }
+
+        // One initial update, then one per resync interval
+        assertEquals(1 + (ticks - 1) / FoodDataSync.RESYNC_INTERVAL_TICKS, sent);
+    }
+
+    @Test
+    public void testChangesAreSentImmediately()
+    {
+        final FoodDataSync sync = new FoodDataSync();
+        final float[] nutrients = {0.5f, 0.5f, 0.5f, 0.5f, 0f};
+
+        assertTrue(sync.update(nutrients, 80f));
+        assertFalse(sync.update(nutrients, 80f));
+
+        assertTrue(sync.update(nutrients, 79.9f), "Thirst changed");
+        assertFalse(sync.update(nutrients, 79.9f));
+
+        nutrients[Nutrient.DAIRY.ordinal()] = 0.1f;
+        assertTrue(sync.update(nutrients, 79.9f), "Nutrient changed");
+        assertFalse(sync.update(nutrients, 79.9f));
+
+        sync.markDirty();
+        assertTrue(sync.update(nutrients, 79.9f), "Marked dirty");
+        assertFalse(sync.update(nutrients, 79.9f));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.food;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Random;
+
+import net.minecraft.nbt.Tag;
+
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NutritionDataTests
+{
+    @Test
+    public void testNutritionMatchesRecalculatingEveryRecord()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        for (int iteration = 0; iteration < 100; iteration++)
+        {
+            final int[] window = {1 + random.nextInt(100)};
+            final NutritionData data = new NutritionData(0.5f, 0.0f, () -> window[0]);
+            final ReferenceNutrition expected = new ReferenceNutrition(0.5f, 0.0f);
+
+            for (int meal = 0; meal < 200; meal++)
+            {
+                if (random.nextInt(50) == 0)
+                {
+                    // The window can change at any time, with a config reload
+                    window[0] = 1 + random.nextInt(100);
+                }
+
+                final FoodRecord record = new FoodRecord(random.nextInt(10), 0, 0, random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(), 1);
+                data.addNutrients(record);
+                expected.add(record, window[0]);
+
+                final String message = "Seed: " + seed + " iteration " + iteration + " meal " + meal;
+                assertArrayEquals(expected.nutrients, data.getNutrients(), 1e-5f, message);
+                assertEquals(expected.records.size(), data.serializeNBT().getList("records", Tag.TAG_COMPOUND).size(), message);
+            }
+
+            // Serialization round trip
+            final NutritionData copy = new NutritionData(0.5f, 0.0f, () -> window[0]);
+            copy.deserializeNBT(data.serializeNBT());
+            assertArrayEquals(data.getNutrients(), copy.getNutrients(), 1e-5f, "Seed: " + seed + " iteration " + iteration);
+        }
+    }
+
+    /**
+     * The original implementation, which recalculated over every record in a linked list.
+     */
+    static class ReferenceNutrition
+    {
+        final LinkedList<FoodRecord> records = new LinkedList<>();
+        final float[] nutrients = new float[5];
+        final float defaultNutritionValue, defaultDairyNutritionValue;
+
+        ReferenceNutrition(float defaultNutritionValue, float defaultDairyNutritionValue)
+        {
+            this.defaultNutritionValue = defaultNutritionValue;
+            this.defaultDairyNutritionValue = defaultDairyNutritionValue;
+        }
+
+        void add(FoodRecord data, int hungerWindow)
+        {
+            records.addFirst(data);
+
+            Arrays.fill(nutrients, 0);
+            int runningHungerTotal = 0;
+            for (int i = 0; i < records.size(); i++)
+            {
+                FoodRecord record = records.get(i);
+                int nextHunger = record.getHunger() + runningHungerTotal;
+                if (nextHunger < hungerWindow)
+                {
+                    for (int j = 0; j < nutrients.length; j++)
+                    {
+                        nutrients[j] += record.getNutrient(j) * record.getHunger();
+                    }
+                    runningHungerTotal = nextHunger;
+                }
+                else
+                {
+                    float actualHunger = hungerWindow - runningHungerTotal;
+                    for (int j = 0; j < nutrients.length; j++)
+                    {
+                        nutrients[j] += record.getNutrient(j) * actualHunger;
+                    }
+                    while (records.size() > i + 1)
+                    {
+                        records.remove(i + 1);
+                    }
+                }
+            }
+
+            for (int j = 0; j < nutrients.length; j++)
+            {
+                nutrients[j] /= hungerWindow;
+            }
+            if (runningHungerTotal < hungerWindow)
+            {
+                float defaultModifier = 1 - (float) runningHungerTotal / hungerWindow;
+                for (Nutrient nutrient : Nutrient.VALUES)
+                {
+                    nutrients[nutrient.ordinal()] += (nutrient == Nutrient.DAIRY ? defaultDairyNutritionValue : defaultNutritionValue) * defaultModifier;
+                }
+            }
+            for (int j = 0; j < nutrients.length; j++)
+            {
+                nutrients[j] = Math.min(1, nutrients[j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import net.minecraft.commands.arguments.blocks.BlockInput;
+import net.minecraft.core.Direction;
+import net.minecraft.data.BuiltinRegistries;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.RotatedPillarBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import net.dries007.tfc.TestBase;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CountBlockCommandTests extends TestBase
+{
+    @Test
+    public void testMatchesOnlyDefinedProperties()
+    {
+        final BlockState yLog = Blocks.OAK_LOG.defaultBlockState().setValue(RotatedPillarBlock.AXIS, Direction.Axis.Y);
+        final BlockState xLog = yLog.setValue(RotatedPillarBlock.AXIS, Direction.Axis.X);
+
+        final Predicate<BlockState> anyLog = CountBlockCommand.matches(new BlockInput(yLog, Set.of(), null));
+        final Predicate<BlockState> onlyYLog = CountBlockCommand.matches(new BlockInput(yLog, Set.of(RotatedPillarBlock.AXIS), null));
+
+        assertTrue(anyLog.test(yLog));
+        assertTrue(anyLog.test(xLog));
+        assertTrue(onlyYLog.test(yLog));
+        assertFalse(onlyYLog.test(xLog));
+        assertFalse(anyLog.test(Blocks.STONE.defaultBlockState()));
+    }
+
+    @Test
+    public void testCountInSectionMatchesNaiveCount()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        final BlockState[] palette = {
+            Blocks.AIR.defaultBlockState(),
+            Blocks.STONE.defaultBlockState(),
+            Blocks.DIRT.defaultBlockState(),
+            Blocks.OAK_LOG.defaultBlockState().setValue(RotatedPillarBlock.AXIS, Direction.Axis.X),
+            Blocks.OAK_LOG.defaultBlockState().setValue(RotatedPillarBlock.AXIS, Direction.Axis.Y),
+        };
+
+        for (int iteration = 0; iteration < 50; iteration++)
+        {
+            // Sections with only a few kinds of states, so some searches can be skipped by the palette
+            final LevelChunkSection section = new LevelChunkSection(0, BuiltinRegistries.BIOME);
+            final int kinds = 1 + random.nextInt(palette.length);
+            for (int x = 0; x < 16; x++)
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        section.setBlockState(x, y, z, palette[random.nextInt(kinds)], false);
+                    }
+                }
+            }
+
+            final BlockState target = palette[random.nextInt(palette.length)];
+            final Predicate<BlockState> predicate = CountBlockCommand.matches(new BlockInput(target, random.nextBoolean() ? Set.of() : Set.copyOf(target.getProperties()), null));
+            final boolean full = random.nextBoolean();
+            final int minX = full ? 0 : random.nextInt(16), maxX = full ? 15 : minX + random.nextInt(16 - minX);
+            final int minZ = full ? 0 : random.nextInt(16), maxZ = full ? 15 : minZ + random.nextInt(16 - minZ);
+
+            int expected = 0;
+            for (int x = minX; x <= maxX; x++)
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    for (int z = minZ; z <= maxZ; z++)
+                    {
+                        if (predicate.test(section.getBlockState(x, y, z)))
+                        {
+                            expected++;
+                        }
+                    }
+                }
+            }
+
+            assertEquals(expected, CountBlockCommand.countInSection(section, predicate, minX, maxX, minZ, maxZ), "Seed: " + seed + " iteration " + iteration);
+        }
+    }
+}
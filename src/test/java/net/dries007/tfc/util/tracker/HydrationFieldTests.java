@@ -0,0 +1,142 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HydrationFieldTests
+{
+    static final int SIZE = 48, HEIGHT = 6;
+
+    @RepeatedTest(20)
+    public void testFieldMatchesScanWithRandomChanges()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        final boolean[] water = new boolean[SIZE * SIZE * HEIGHT];
+        for (int i = 0; i < water.length; i++)
+        {
+            water[i] = random.nextInt(40) == 0;
+        }
+
+        final HydrationField.WaterSource source = (x, y, z) -> x >= 0 && x < SIZE && y >= 0 && y < HEIGHT && z >= 0 && z < SIZE && water[index(x, y, z)];
+        final HydrationField field = new HydrationField();
+
+        for (int round = 0; round < 20; round++)
+        {
+            // Query a random subset of positions, so the field is only partially filled
+            for (int i = 0; i < 400; i++)
+            {
+                final int x = random.nextInt(SIZE), y = 1 + random.nextInt(HEIGHT - 1), z = random.nextInt(SIZE);
+                assertEquals(HydrationField.findMinCostWater(source, x, y, z), field.getCost(source, x, y, z, 0), "Seed: " + seed + " cost at " + x + ", " + y + ", " + z);
+            }
+
+            // Add or remove some water, notifying the field of each change
+            for (int i = 0; i < 10; i++)
+            {
+                final int x = random.nextInt(SIZE), y = random.nextInt(HEIGHT), z = random.nextInt(SIZE);
+                water[index(x, y, z)] = !water[index(x, y, z)];
+                field.onBlockChanged(x, y, z);
+            }
+        }
+
+        // And finally check every position
+        for (int x = 0; x < SIZE; x++)
+        {
+            for (int y = 1; y < HEIGHT; y++)
+            {
+                for (int z = 0; z < SIZE; z++)
+                {
+                    assertEquals(HydrationField.findMinCostWater(source, x, y, z), field.getCost(source, x, y, z, 0), "Seed: " + seed + " cost at " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFieldExpires()
+    {
+        final boolean[] water = {false};
+        final HydrationField.WaterSource source = (x, y, z) -> water[0] && x == 0 && y == 0 && z == 0;
+        final HydrationField field = new HydrationField();
+
+        assertEquals(5, field.getCost(source, 0, 0, 0, 0));
+
+        // A change without a block update is not seen until the band reaches its maximum age, even if it is read often
+        water[0] = true;
+        for (long time = 0; time <= HydrationField.MAX_AGE_TICKS; time += 1000)
+        {
+            assertEquals(5, field.getCost(source, 0, 0, 0, time));
+        }
+        assertEquals(0, field.getCost(source, 0, 0, 0, HydrationField.MAX_AGE_TICKS + 1));
+
+        field.removeExpired(HydrationField.MAX_AGE_TICKS + 1 + HydrationField.IDLE_EXPIRY_TICKS);
+        assertEquals(1, field.size(), "Read recently enough to be kept");
+
+        field.removeExpired(HydrationField.MAX_AGE_TICKS + 2 + HydrationField.IDLE_EXPIRY_TICKS);
+        assertEquals(0, field.size(), "Not read for too long");
+    }
+
+    @Test
+    public void testRepeatReadAtRandomTickSpacingIsCached()
+    {
+        // At the default random tick speed of 3, a single block is random ticked on average every 16 * 16 * 16 / 3 ~= 1365 ticks
+        final int[] reads = {0};
+        final HydrationField.WaterSource source = (x, y, z) -> {
+            reads[0]++;
+            return x == 3 && y == 10 && z == 3;
+        };
+        final HydrationField field = new HydrationField();
+
+        assertEquals(4, field.getCost(source, 5, 11, 5, 0));
+        final int readsForOneScan = reads[0];
+        assertTrue(readsForOneScan > 0);
+
+        long time = 0;
+        for (int tick = 0; tick < 10; tick++)
+        {
+            time += 1365;
+            field.removeExpired(time);
+            assertEquals(4, field.getCost(source, 5, 11, 5, time));
+        }
+        assertEquals(readsForOneScan, reads[0], "Repeat reads should not scan again");
+
+        // Even a read at several times the average spacing is still cached
+        time += 4 * 1365;
+        field.removeExpired(time);
+        assertEquals(4, field.getCost(source, 5, 11, 5, time));
+        assertEquals(readsForOneScan, reads[0]);
+    }
+
+    @Test
+    public void testBlockChangesFarFromAnyBandAreIgnored()
+    {
+        final boolean[] water = {false};
+        final HydrationField.WaterSource source = (x, y, z) -> water[0] && x == 1 && y == 9 && z == 1;
+        final HydrationField field = new HydrationField();
+
+        assertEquals(5, field.getCost(source, 0, 10, 0, 0));
+
+        // A change below the band's range does not affect it, one within range clears it
+        field.onBlockChanged(1, 5, 1);
+        water[0] = true;
+        assertEquals(5, field.getCost(source, 0, 10, 0, 0));
+        field.onBlockChanged(1, 9, 1);
+        assertEquals(3, field.getCost(source, 0, 10, 0, 0));
+    }
+
+    private static int index(int x, int y, int z)
+    {
+        return (x * SIZE + z) * HEIGHT + y;
+    }
+}
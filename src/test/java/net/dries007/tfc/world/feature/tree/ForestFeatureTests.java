@@ -0,0 +1,99 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.feature.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import net.dries007.tfc.TestBase;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ForestFeatureTests extends TestBase
+{
+    @Test
+    public void testCandidatesMatchUncachedSelection()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        for (int iteration = 0; iteration < 100; iteration++)
+        {
+            final ForestConfig.Entry[] entries = new ForestConfig.Entry[1 + random.nextInt(12)];
+            for (int i = 0; i < entries.length; i++)
+            {
+                final float minRain = random.nextFloat() * 400, minTemp = -20 + random.nextFloat() * 40;
+                entries[i] = new ForestConfig.Entry(minRain, minRain + random.nextFloat() * 300, minTemp, minTemp + random.nextFloat() * 20, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), null, Optional.empty(), 6, 200, 14);
+            }
+
+            final boolean useWeirdness = random.nextBoolean();
+            final ForestFeature.Candidates candidates = new ForestFeature.Candidates(entries, useWeirdness);
+
+            // Many selections in the same "chunk", as a single placement would do
+            final float weirdness = random.nextFloat();
+            final long selectionSeed = random.nextLong();
+            final Random expectedRandom = new Random(selectionSeed), actualRandom = new Random(selectionSeed);
+            for (int i = 0; i < 50; i++)
+            {
+                final float temperature = -25 + random.nextFloat() * 50, rainfall = random.nextFloat() * 500;
+                final String message = "Seed: " + seed + " iteration " + iteration + " selection " + i;
+                assertEquals(getTreeUncached(entries, useWeirdness, temperature, rainfall, weirdness, expectedRandom), candidates.select(temperature, rainfall, weirdness, actualRandom), message);
+            }
+            assertEquals(expectedRandom.nextLong(), actualRandom.nextLong(), "Seed: " + seed + " iteration " + iteration);
+        }
+    }
+
+    /**
+     * The original implementation of {@code ForestFeature#getTree}
+     */
+    private ForestConfig.Entry getTreeUncached(ForestConfig.Entry[] configEntries, boolean useWeirdness, float averageTemperature, float rainfall, float weirdness, Random random)
+    {
+        List<ForestConfig.Entry> entries = new ArrayList<>(4);
+        for (ForestConfig.Entry entry : configEntries)
+        {
+            float lastRain = entry.getAverageRain();
+            float lastTemp = entry.getAverageTemp();
+            if (entry.isValid(averageTemperature, rainfall))
+            {
+                if (entry.distanceFromMean(lastTemp, lastRain) < entry.distanceFromMean(averageTemperature, rainfall))
+                {
+                    entries.add(entry);
+                }
+                else
+                {
+                    entries.add(0, entry);
+                }
+            }
+        }
+
+        if (entries.isEmpty()) return null;
+        if (useWeirdness)
+        {
+            Collections.rotate(entries, -(int) (weirdness * (entries.size() - 1f)));
+            for (int i = 1; i >= -1; i--)
+            {
+                if (entries.size() <= 1)
+                    break;
+                if (random.nextFloat() > weirdness - (0.15f * i) + 0.1f)
+                {
+                    entries.remove(entries.size() - 1);
+                }
+            }
+        }
+
+        int index = 0;
+        while (index < entries.size() - 1 && random.nextFloat() < 0.6f)
+        {
+            index++;
+        }
+        return entries.get(index);
+    }
+}
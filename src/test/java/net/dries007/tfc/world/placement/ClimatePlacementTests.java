@@ -0,0 +1,56 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.placement;
+
+import java.util.Random;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+import net.dries007.tfc.TestBase;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ClimatePlacementTests extends TestBase
+{
+    @Test
+    public void testValidAnywhereIncludesEveryValidPosition()
+    {
+        final long seed = seed();
+        final Random random = new Random(seed);
+        for (int iteration = 0; iteration < 200; iteration++)
+        {
+            final ChunkData data = new ChunkData(new ChunkPos(random.nextInt(100), random.nextInt(100)), RockLayerSettings.EMPTY);
+            data.setAverageTemp(new LerpFloatLayer(-20 + random.nextFloat() * 40, -20 + random.nextFloat() * 40, -20 + random.nextFloat() * 40, -20 + random.nextFloat() * 40));
+            data.setRainfall(new LerpFloatLayer(random.nextFloat() * 500, random.nextFloat() * 500, random.nextFloat() * 500, random.nextFloat() * 500));
+            data.setFloraData(ForestType.values()[random.nextInt(ForestType.values().length)], 0, 0);
+
+            final float minTemp = -25 + random.nextFloat() * 40, minRain = random.nextFloat() * 400;
+            final ForestType minForest = ForestType.values()[random.nextInt(ForestType.values().length)];
+            final ClimatePlacement climate = new ClimatePlacement(minTemp, minTemp + random.nextFloat() * 20, minRain, minRain + random.nextFloat() * 200, minForest, ForestType.values()[minForest.ordinal() + random.nextInt(ForestType.values().length - minForest.ordinal())], false);
+
+            if (!climate.isValidAnywhere(data))
+            {
+                final ChunkPos chunkPos = data.getPos();
+                for (int x = 0; x < 16; x++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        final BlockPos pos = new BlockPos(chunkPos.getMinBlockX() + x, 64, chunkPos.getMinBlockZ() + z);
+                        assertFalse(climate.isValid(data, pos, random), "Seed: " + seed + " iteration " + iteration + " at " + pos);
+                    }
+                }
+            }
+        }
+    }
+}